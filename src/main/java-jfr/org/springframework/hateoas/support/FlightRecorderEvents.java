@@ -0,0 +1,300 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+
+import java.lang.reflect.Method;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.MimeType;
+
+/**
+ * The actual Java Flight Recorder events emitted through {@link HypermediaEvents}. Only compiled on JDK 11 and newer
+ * and only loaded if JFR is present.
+ * <p>
+ * Whether an event type is enabled is cached and only refreshed when a recording changes its state, so that the
+ * {@code begin…} methods neither allocate an event nor query JFR unless the event is actually recorded. Changes of
+ * the settings of an already running recording are picked up with the next state change of any recording.
+ *
+ * @since 1.0
+ */
+class FlightRecorderEvents implements HypermediaEvents.Recorder, FlightRecorderListener {
+
+	private static final String CATEGORY = "Spring HATEOAS";
+
+	private volatile boolean linkCreationEnabled, methodOnEnabled, processorInvocationEnabled, halSerializationEnabled,
+			serializationEnabled, traversalHopEnabled;
+
+	FlightRecorderEvents() {
+
+		FlightRecorder.addListener(this);
+
+		refresh();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see jdk.jfr.FlightRecorderListener#recordingStateChanged(jdk.jfr.Recording)
+	 */
+	@Override
+	public void recordingStateChanged(Recording recording) {
+		refresh();
+	}
+
+	/**
+	 * Re-evaluates which of the event types are enabled in any running recording. Doesn't touch the event types at all
+	 * as long as the {@link FlightRecorder} hasn't been initialized, as there can't be any recording then.
+	 */
+	private synchronized void refresh() {
+
+		boolean initialized = FlightRecorder.isInitialized();
+
+		this.linkCreationEnabled = initialized && isEnabled(LinkCreationEvent.class);
+		this.methodOnEnabled = initialized && isEnabled(MethodOnEvent.class);
+		this.processorInvocationEnabled = initialized && isEnabled(ProcessorInvocationEvent.class);
+		this.halSerializationEnabled = initialized && isEnabled(HalSerializationEvent.class);
+		this.serializationEnabled = initialized && isEnabled(SerializationEvent.class);
+		this.traversalHopEnabled = initialized && isEnabled(TraversalHopEvent.class);
+	}
+
+	private static boolean isEnabled(Class<? extends Event> type) {
+		return EventType.getEventType(type).isEnabled();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#beginLinkCreation()
+	 */
+	@Override
+	public Object beginLinkCreation() {
+		return linkCreationEnabled ? begin(new LinkCreationEvent()) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#commitLinkCreation(java.lang.Object, java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public void commitLinkCreation(Object event, Class<?> controller, Method method) {
+
+		LinkCreationEvent creation = (LinkCreationEvent) event;
+
+		creation.controller = ClassUtils.getUserClass(controller).getName();
+		creation.method = method.getName();
+		creation.commit();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#beginMethodOn()
+	 */
+	@Override
+	public Object beginMethodOn() {
+		return methodOnEnabled ? begin(new MethodOnEvent()) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#commitMethodOn(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public void commitMethodOn(Object event, Class<?> controller) {
+
+		MethodOnEvent methodOn = (MethodOnEvent) event;
+
+		methodOn.controller = controller.getName();
+		methodOn.commit();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#beginProcessorInvocation()
+	 */
+	@Override
+	public Object beginProcessorInvocation() {
+		return processorInvocationEnabled ? begin(new ProcessorInvocationEvent()) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#commitProcessorInvocation(java.lang.Object, java.lang.Class, int)
+	 */
+	@Override
+	public void commitProcessorInvocation(Object event, Class<?> processor, int elements) {
+
+		ProcessorInvocationEvent invocation = (ProcessorInvocationEvent) event;
+
+		invocation.processor = ClassUtils.getUserClass(processor).getName();
+		invocation.elements = elements;
+		invocation.commit();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#beginHalSerialization()
+	 */
+	@Override
+	public Object beginHalSerialization() {
+		return halSerializationEnabled ? begin(new HalSerializationEvent()) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#commitHalSerialization(java.lang.Object, java.lang.String, int, java.lang.String)
+	 */
+	@Override
+	public void commitHalSerialization(Object event, String part, int elements, String format) {
+
+		HalSerializationEvent serialization = (HalSerializationEvent) event;
+
+		serialization.part = part;
+		serialization.elements = elements;
+		serialization.format = format;
+		serialization.commit();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#beginSerialization()
+	 */
+	@Override
+	public Object beginSerialization() {
+		return serializationEnabled ? begin(new SerializationEvent()) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#commitSerialization(java.lang.Object, org.springframework.util.MimeType, java.lang.Class, long)
+	 */
+	@Override
+	public void commitSerialization(Object event, MimeType mediaType, Class<?> type, long bytes) {
+
+		SerializationEvent serialization = (SerializationEvent) event;
+
+		serialization.mediaType = mediaType == null ? null : mediaType.toString();
+		serialization.type = type.getName();
+		serialization.bytes = bytes;
+		serialization.commit();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#beginTraversalHop()
+	 */
+	@Override
+	public Object beginTraversalHop() {
+		return traversalHopEnabled ? begin(new TraversalHopEvent()) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaEvents.Recorder#commitTraversalHop(java.lang.Object, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public void commitTraversalHop(Object event, String rel, String uri) {
+
+		TraversalHopEvent hop = (TraversalHopEvent) event;
+
+		hop.rel = rel;
+		hop.uri = uri;
+		hop.commit();
+	}
+
+	private static Object begin(Event event) {
+
+		event.begin();
+
+		return event;
+	}
+
+	@Name("org.springframework.hateoas.LinkCreation")
+	@Label("Link Creation")
+	@Description("Creation of a link pointing to a controller method")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class LinkCreationEvent extends Event {
+
+		@Label("Controller") String controller;
+		@Label("Method") String method;
+	}
+
+	@Name("org.springframework.hateoas.MethodOn")
+	@Label("Method Invocation Proxy")
+	@Description("Creation of a proxy to record a controller method invocation")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class MethodOnEvent extends Event {
+
+		@Label("Controller") String controller;
+	}
+
+	@Name("org.springframework.hateoas.ProcessorInvocation")
+	@Label("Processor Invocation")
+	@Description("Invocation of a RepresentationModelProcessor")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class ProcessorInvocationEvent extends Event {
+
+		@Label("Processor") String processor;
+		@Label("Element Count") int elements;
+	}
+
+	@Name("org.springframework.hateoas.HalSerialization")
+	@Label("HAL Serialization")
+	@Description("Serialization of the links or embedded elements of a HAL document")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class HalSerializationEvent extends Event {
+
+		@Label("Part") String part;
+		@Label("Element Count") int elements;
+		@Label("Format") String format;
+	}
+
+	@Name("org.springframework.hateoas.Serialization")
+	@Label("Hypermedia Serialization")
+	@Description("Serialization of a representation model by a message converter")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class SerializationEvent extends Event {
+
+		@Label("Media Type") String mediaType;
+		@Label("Type") String type;
+		@Label("Bytes Written") @DataAmount long bytes;
+	}
+
+	@Name("org.springframework.hateoas.TraversalHop")
+	@Label("Traversal Hop")
+	@Description("Single hop of a Traverson following a link relation")
+	@Category(CATEGORY)
+	@Enabled(false)
+	static class TraversalHopEvent extends Event {
+
+		@Label("Relation") String rel;
+		@Label("URI") String uri;
+	}
+}
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import org.springframework.util.Assert;
 
@@ -33,7 +34,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class CollectionModel<T> extends RepresentationModel<CollectionModel<T>> implements Iterable<T> {
 
-	private final Collection<T> content;
+	private final List<T> content;
 
 	/**
 	 * Creates an empty {@link CollectionModel} instance.
@@ -101,6 +102,17 @@ public class CollectionModel<T> extends RepresentationModel<CollectionModel<T>>
 		return Collections.unmodifiableCollection(content);
 	}
 
+	/**
+	 * Replaces the element at the given index of the content.
+	 *
+	 * @param index the index of the element to replace.
+	 * @param element the new element.
+	 * @see CollectionModelAccessor#replaceContentElement(CollectionModel, int, Object)
+	 */
+	void replaceContentElement(int index, T element) {
+		this.content.set(index, element);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Iterable#iterator()
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import org.springframework.util.Assert;
+
+/**
+ * Grants the infrastructure post-processing representation models, e.g. the invocation of
+ * {@link org.springframework.hateoas.server.RepresentationModelProcessor}s, access to the package-private mutation
+ * hook of {@link CollectionModel}, so that the model itself doesn't expose a public mutator next to its read-only
+ * {@link CollectionModel#getContent()}. Internal API, not intended to be used from user code.
+ *
+ * @since 1.0
+ */
+public final class CollectionModelAccessor {
+
+	private CollectionModelAccessor() {}
+
+	/**
+	 * Replaces the element at the given index of the given {@link CollectionModel}'s content in place.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @param index the index of the element to replace.
+	 * @param element the new element.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void replaceContentElement(CollectionModel<?> model, int index, Object element) {
+
+		Assert.notNull(model, "CollectionModel must not be null!");
+
+		((CollectionModel<Object>) model).replaceContentElement(index, element);
+	}
+}
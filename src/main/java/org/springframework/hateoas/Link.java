@@ -24,12 +24,10 @@ import lombok.experimental.Wither;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpMethod;
@@ -56,11 +54,6 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 public class Link implements Serializable {
 
 	private static final long serialVersionUID = -9037755944661782121L;
-	private static final String URI_PATTERN = "(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
-
-	private static final Pattern URI_AND_ATTRIBUTES_PATTERN = Pattern.compile("<(.*)>;(.*)");
-	private static final Pattern KEY_AND_VALUE_PATTERN = Pattern
-			.compile("(\\w+)=\"(\\p{Lower}[\\p{Lower}\\p{Digit}.\\-\\s]*|" + URI_PATTERN + ")\"");
 
 	public static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
 
@@ -169,6 +162,17 @@ public class Link implements Serializable {
 		this.affordances = affordances;
 	}
 
+	/**
+	 * Returns a new {@link Builder} to create a {@link Link} with all its attributes in a single step, i.e. without the
+	 * intermediate copies created by chaining {@code withX(…)} calls.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
 	/**
 	 * Empty constructor required by the marshaling framework.
 	 */
@@ -311,7 +315,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public boolean isTemplated() {
-		return !getUriTemplate().getVariables().isEmpty();
+		return getUriTemplate().isTemplated();
 	}
 
 	/**
@@ -415,46 +419,60 @@ public class Link implements Serializable {
 	 */
 	@Override
 	public String toString() {
+		return appendTo(new StringBuilder(href.length() + 32)).toString();
+	}
+
+	/**
+	 * Appends the RFC-8288 representation of the current {@link Link} to the given {@link StringBuilder}, quoting and
+	 * escaping all attribute values.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 */
+	StringBuilder appendTo(StringBuilder builder) {
 
-		String linkString = String.format("<%s>;rel=\"%s\"", href, rel.value());
+		builder.append('<').append(href).append('>');
 
-		if (hreflang != null) {
-			linkString += ";hreflang=\"" + hreflang + "\"";
-		}
+		appendAttribute(builder, "rel", rel.value());
+		appendAttribute(builder, "hreflang", hreflang);
+		appendAttribute(builder, "media", media);
+		appendAttribute(builder, "title", title);
+		appendAttribute(builder, "type", type);
+		appendAttribute(builder, "deprecation", deprecation);
+		appendAttribute(builder, "profile", profile);
+		appendAttribute(builder, "name", name);
 
-		if (media != null) {
-			linkString += ";media=\"" + media + "\"";
-		}
+		return builder;
+	}
 
-		if (title != null) {
-			linkString += ";title=\"" + title + "\"";
-		}
+	private static void appendAttribute(StringBuilder builder, String name, String value) {
 
-		if (type != null) {
-			linkString += ";type=\"" + type + "\"";
+		if (value == null) {
+			return;
 		}
 
-		if (deprecation != null) {
-			linkString += ";deprecation=\"" + deprecation + "\"";
-		}
+		builder.append(';').append(name).append("=\"");
 
-		if (profile != null) {
-			linkString += ";profile=\"" + profile + "\"";
-		}
+		for (int i = 0; i < value.length(); i++) {
 
-		if (name != null) {
-			linkString += ";name=\"" + name + "\"";
+			char c = value.charAt(i);
+
+			if (c == '"' || c == '\\') {
+				builder.append('\\');
+			}
+
+			builder.append(c);
 		}
 
-		return linkString;
+		builder.append('"');
 	}
 
 	/**
-	 * Factory method to easily create {@link Link} instances from RFC-5988 compatible {@link String} representations of a
+	 * Factory method to easily create {@link Link} instances from RFC-8288 compatible {@link String} representations of a
 	 * link. Will return {@literal null} if input {@link String} is either empty or {@literal null}.
 	 *
-	 * @param element an RFC-5899 compatible representation of a link.
-	 * @throws IllegalArgumentException if a non-empty {@link String} was given that does not adhere to RFC-5899.
+	 * @param element an RFC-8288 compatible representation of a link.
+	 * @throws IllegalArgumentException if a non-empty {@link String} was given that does not adhere to RFC-8288.
 	 * @throws IllegalArgumentException if no {@code rel} attribute could be found.
 	 * @return
 	 */
@@ -464,72 +482,223 @@ public class Link implements Serializable {
 			return null;
 		}
 
-		Matcher matcher = URI_AND_ATTRIBUTES_PATTERN.matcher(element);
+		return LinkParser.parseLink(element);
+	}
 
-		if (matcher.find()) {
+	/**
+	 * Mutable builder for {@link Link} instances. Defaults the link relation to {@link IanaLinkRelations#SELF}.
+	 *
+	 * @since 1.0
+	 * @see Link#builder()
+	 */
+	public static final class Builder {
 
-			Map<String, String> attributes = getAttributeMap(matcher.group(2));
+		private LinkRelation rel = IanaLinkRelations.SELF;
+		private String href;
+		private UriTemplate template;
+		private String hreflang, media, title, type, deprecation, profile, name;
+		private List<Affordance> affordances;
 
-			if (!attributes.containsKey("rel")) {
-				throw new IllegalArgumentException("Link does not provide a rel attribute!");
-			}
+		private Builder() {}
 
-			Link link = new Link(matcher.group(1), attributes.get("rel"));
+		/**
+		 * Configures the href of the {@link Link} to build.
+		 *
+		 * @param href must not be {@literal null} or empty.
+		 * @return the current builder.
+		 */
+		public Builder href(String href) {
 
-			if (attributes.containsKey("hreflang")) {
-				link = link.withHreflang(attributes.get("hreflang"));
-			}
+			Assert.hasText(href, "Href must not be null or empty!");
 
-			if (attributes.containsKey("media")) {
-				link = link.withMedia(attributes.get("media"));
-			}
+			this.href = href;
+			this.template = null;
 
-			if (attributes.containsKey("title")) {
-				link = link.withTitle(attributes.get("title"));
-			}
+			return this;
+		}
 
-			if (attributes.containsKey("type")) {
-				link = link.withType(attributes.get("type"));
-			}
+		/**
+		 * Configures the {@link UriTemplate} of the {@link Link} to build.
+		 *
+		 * @param template must not be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder template(UriTemplate template) {
 
-			if (attributes.containsKey("deprecation")) {
-				link = link.withDeprecation(attributes.get("deprecation"));
-			}
+			Assert.notNull(template, "UriTemplate must not be null!");
 
-			if (attributes.containsKey("profile")) {
-				link = link.withProfile(attributes.get("profile"));
-			}
+			this.template = template;
+			this.href = null;
 
-			if (attributes.containsKey("name")) {
-				link = link.withName(attributes.get("name"));
-			}
+			return this;
+		}
 
-			return link;
+		/**
+		 * Configures the {@link LinkRelation} of the {@link Link} to build.
+		 *
+		 * @param rel must not be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder rel(LinkRelation rel) {
 
-		} else {
-			throw new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", element));
+			Assert.notNull(rel, "LinkRelation must not be null!");
+
+			this.rel = rel;
+
+			return this;
 		}
-	}
 
-	/**
-	 * Parses the links attributes from the given source {@link String}.
-	 *
-	 * @param source
-	 * @return
-	 */
-	private static Map<String, String> getAttributeMap(String source) {
+		/**
+		 * Configures the link relation of the {@link Link} to build.
+		 *
+		 * @param rel must not be {@literal null} or empty.
+		 * @return the current builder.
+		 */
+		public Builder rel(String rel) {
+			return rel(LinkRelation.of(rel));
+		}
+
+		/**
+		 * Configures the language of the resource the {@link Link} to build points to.
+		 *
+		 * @param hreflang can be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder hreflang(String hreflang) {
+
+			this.hreflang = hreflang;
+			return this;
+		}
+
+		/**
+		 * Configures the media the resource the {@link Link} to build points to is intended for.
+		 *
+		 * @param media can be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder media(String media) {
+
+			this.media = media;
+			return this;
+		}
+
+		/**
+		 * Configures the human readable title of the {@link Link} to build.
+		 *
+		 * @param title can be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder title(String title) {
+
+			this.title = title;
+			return this;
+		}
+
+		/**
+		 * Configures the media type of the resource the {@link Link} to build points to.
+		 *
+		 * @param type can be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder type(String type) {
+
+			this.type = type;
+			return this;
+		}
+
+		/**
+		 * Configures the URI of information about the deprecation of the {@link Link} to build.
+		 *
+		 * @param deprecation can be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder deprecation(String deprecation) {
+
+			this.deprecation = deprecation;
+			return this;
+		}
+
+		/**
+		 * Configures the profile of the {@link Link} to build.
+		 *
+		 * @param profile can be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder profile(String profile) {
 
-		if (!StringUtils.hasText(source)) {
-			return Collections.emptyMap();
+			this.profile = profile;
+			return this;
 		}
 
-		Map<String, String> attributes = new HashMap<>();
-		Matcher matcher = KEY_AND_VALUE_PATTERN.matcher(source);
+		/**
+		 * Configures the name of the {@link Link} to build.
+		 *
+		 * @param name can be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder name(String name) {
 
-		while (matcher.find()) {
-			attributes.put(matcher.group(1), matcher.group(2));
+			this.name = name;
+			return this;
 		}
 
-		return attributes;
+		/**
+		 * Adds the given {@link Affordance} to the {@link Link} to build.
+		 *
+		 * @param affordance must not be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder affordance(Affordance affordance) {
+
+			Assert.notNull(affordance, "Affordance must not be null!");
+
+			getOrCreateAffordances().add(affordance);
+
+			return this;
+		}
+
+		/**
+		 * Adds the given {@link Affordance}s to the {@link Link} to build.
+		 *
+		 * @param affordances must not be {@literal null}.
+		 * @return the current builder.
+		 */
+		public Builder affordances(Collection<Affordance> affordances) {
+
+			Assert.notNull(affordances, "Affordances must not be null!");
+
+			getOrCreateAffordances().addAll(affordances);
+
+			return this;
+		}
+
+		/**
+		 * Creates the {@link Link}. The href is normalized through a {@link UriTemplate} just like the constructors of
+		 * {@link Link} do.
+		 *
+		 * @return will never be {@literal null}.
+		 * @throws IllegalStateException in case neither an href nor a {@link UriTemplate} was configured.
+		 */
+		public Link build() {
+
+			Assert.state(href != null || template != null, "Either an href or a UriTemplate has to be configured!");
+
+			UriTemplate template = this.template != null ? this.template : new UriTemplate(href);
+			List<Affordance> affordances = this.affordances == null //
+					? Collections.emptyList() //
+					: new ArrayList<>(this.affordances);
+
+			return new Link(rel, template.toString(), hreflang, media, title, type, deprecation, profile, name, template,
+					affordances);
+		}
+
+		private List<Affordance> getOrCreateAffordances() {
+
+			if (affordances == null) {
+				this.affordances = new ArrayList<>();
+			}
+
+			return affordances;
+		}
 	}
 }
@@ -0,0 +1,414 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Hand-written, single-pass parser for RFC 8288 {@code Link} header values. Supports quoted strings including escaped
+ * characters, unquoted (token) values, multiple link relations per link value, RFC 8187 extended values for
+ * {@code title*} and ignores unknown extension attributes.
+ *
+ * @see https://tools.ietf.org/html/rfc8288#section-3
+ * @since 1.0
+ */
+final class LinkParser {
+
+	private final String source;
+	private final int length;
+	private int position;
+
+	private LinkParser(String source) {
+
+		this.source = source;
+		this.length = source.length();
+		this.position = 0;
+	}
+
+	/**
+	 * Parses a single {@link Link} from the given source.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if the given source is not a single, RFC 8288 compliant link value or doesn't
+	 *           contain a {@code rel} attribute.
+	 */
+	static Link parseLink(String source) {
+
+		LinkParser parser = new LinkParser(source);
+		LinkValue value = parser.parseLinkValue();
+
+		parser.skipWhitespace();
+
+		if (value == null || !parser.isAtEnd()) {
+			throw new IllegalArgumentException(String.format("Given link header %s is not RFC 8288 compliant!", source));
+		}
+
+		return value.toLink(value.getRequiredRel());
+	}
+
+	/**
+	 * Parses all {@link Link}s contained in the given comma-separated source. Empty and syntactically invalid elements
+	 * are skipped. A link value carrying multiple, whitespace-separated link relations results in one {@link Link} per
+	 * relation.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if a link value doesn't contain a {@code rel} attribute.
+	 */
+	static List<Link> parseLinks(String source) {
+
+		LinkParser parser = new LinkParser(source);
+		List<Link> links = new ArrayList<>();
+
+		while (!parser.isAtEnd()) {
+
+			parser.skipWhitespace();
+
+			if (parser.isAtEnd()) {
+				break;
+			}
+
+			if (parser.current() == ',') {
+				parser.position++;
+				continue;
+			}
+
+			int start = parser.position;
+			LinkValue value = parser.parseLinkValue();
+
+			if (value == null) {
+				parser.skipElement(start);
+				continue;
+			}
+
+			String rel = value.getRequiredRel();
+
+			if (rel.indexOf(' ') == -1 && rel.indexOf('\t') == -1) {
+				links.add(value.toLink(rel));
+			} else {
+				for (String token : StringUtils.tokenizeToStringArray(rel, " \t")) {
+					links.add(value.toLink(token));
+				}
+			}
+		}
+
+		return links;
+	}
+
+	/**
+	 * Parses a single link value starting at the current position. Leaves the position right behind the link value, i.e.
+	 * at the separating comma or the end of the source.
+	 *
+	 * @return the parsed {@link LinkValue} or {@literal null} in case the source is malformed.
+	 */
+	private LinkValue parseLinkValue() {
+
+		skipWhitespace();
+
+		if (isAtEnd() || current() != '<') {
+			return null;
+		}
+
+		int hrefEnd = source.indexOf('>', position + 1);
+
+		if (hrefEnd == -1) {
+			return null;
+		}
+
+		LinkValue value = new LinkValue(source.substring(position + 1, hrefEnd));
+		position = hrefEnd + 1;
+
+		while (true) {
+
+			skipWhitespace();
+
+			if (isAtEnd() || current() == ',') {
+				return value;
+			}
+
+			if (current() != ';') {
+				return null;
+			}
+
+			position++;
+			skipWhitespace();
+
+			// Tolerate empty parameters, e.g. trailing semicolons
+			if (isAtEnd() || current() == ';' || current() == ',') {
+				continue;
+			}
+
+			String name = readToken(true);
+
+			if (name.isEmpty()) {
+				return null;
+			}
+
+			skipWhitespace();
+
+			String parameterValue = "";
+
+			if (!isAtEnd() && current() == '=') {
+
+				position++;
+				skipWhitespace();
+
+				parameterValue = !isAtEnd() && current() == '"' ? readQuotedString() : readToken(false);
+
+				if (parameterValue == null) {
+					return null;
+				}
+			}
+
+			value.apply(name, parameterValue);
+		}
+	}
+
+	/**
+	 * Reads a token, i.e. an unquoted parameter name or value. Unquoted values are read leniently up to the next
+	 * delimiter to support commonly used, but not strictly compliant values like URIs.
+	 *
+	 * @param name whether to read a parameter name, which additionally ends at {@code =}.
+	 * @return will never be {@literal null}.
+	 */
+	private String readToken(boolean name) {
+
+		int start = position;
+
+		while (!isAtEnd()) {
+
+			char c = current();
+
+			if (c == ';' || c == ',' || c == ' ' || c == '\t' || (name && c == '=')) {
+				break;
+			}
+
+			position++;
+		}
+
+		return source.substring(start, position);
+	}
+
+	/**
+	 * Reads a quoted string starting at the current position, resolving quoted pairs.
+	 *
+	 * @return the unquoted value or {@literal null} in case the quoted string is not terminated.
+	 */
+	private String readQuotedString() {
+
+		int start = ++position;
+		StringBuilder builder = null;
+
+		while (!isAtEnd()) {
+
+			char c = current();
+
+			if (c == '"') {
+
+				String result = builder == null //
+						? source.substring(start, position) //
+						: builder.toString();
+
+				position++;
+
+				return result;
+			}
+
+			if (c == '\\') {
+
+				if (builder == null) {
+					builder = new StringBuilder(source.length() - start).append(source, start, position);
+				}
+
+				position++;
+
+				if (isAtEnd()) {
+					return null;
+				}
+
+				c = current();
+			}
+
+			if (builder != null) {
+				builder.append(c);
+			}
+
+			position++;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Skips the element starting at the given position, i.e. moves the position to the next comma that is neither part of
+	 * a URI reference nor of a quoted string.
+	 *
+	 * @param start the position the element started at.
+	 */
+	private void skipElement(int start) {
+
+		boolean inQuotes = false;
+		boolean inReference = false;
+
+		for (position = start; !isAtEnd(); position++) {
+
+			char c = current();
+
+			if (inQuotes) {
+
+				if (c == '\\') {
+					position++;
+				} else if (c == '"') {
+					inQuotes = false;
+				}
+
+			} else if (inReference) {
+
+				inReference = c != '>';
+
+			} else if (c == '"') {
+				inQuotes = true;
+			} else if (c == '<') {
+				inReference = true;
+			} else if (c == ',') {
+				return;
+			}
+		}
+	}
+
+	private void skipWhitespace() {
+
+		while (!isAtEnd() && Character.isWhitespace(current())) {
+			position++;
+		}
+	}
+
+	private char current() {
+		return source.charAt(position);
+	}
+
+	private boolean isAtEnd() {
+		return position >= length;
+	}
+
+	/**
+	 * Decodes an RFC 8187 extended value ({@code charset'language'value-chars}).
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return the decoded value or {@literal null} if the value is malformed or uses an unsupported charset.
+	 * @see https://tools.ietf.org/html/rfc8187#section-3.2
+	 */
+	private static String decodeExtendedValue(String value) {
+
+		int charsetEnd = value.indexOf('\'');
+		int languageEnd = charsetEnd == -1 ? -1 : value.indexOf('\'', charsetEnd + 1);
+
+		if (languageEnd == -1) {
+			return null;
+		}
+
+		try {
+
+			Charset charset = Charset.forName(value.substring(0, charsetEnd));
+
+			return StringUtils.uriDecode(value.substring(languageEnd + 1), charset);
+
+		} catch (IllegalArgumentException o_O) {
+			return null;
+		}
+	}
+
+	/**
+	 * The attributes of a single link value collected while parsing. Only the first occurrence of an attribute is
+	 * considered as mandated by RFC 8288, a {@code title*} attribute takes precedence over {@code title}.
+	 */
+	private static class LinkValue {
+
+		private final String href;
+		private String rel, hreflang, media, title, extendedTitle, type, deprecation, profile, name;
+
+		LinkValue(String href) {
+			this.href = href;
+		}
+
+		void apply(String name, String value) {
+
+			switch (name.toLowerCase(Locale.ROOT)) {
+				case "rel":
+					rel = rel == null ? value : rel;
+					break;
+				case "hreflang":
+					hreflang = hreflang == null ? value : hreflang;
+					break;
+				case "media":
+					media = media == null ? value : media;
+					break;
+				case "title":
+					title = title == null ? value : title;
+					break;
+				case "title*":
+					extendedTitle = extendedTitle == null ? decodeExtendedValue(value) : extendedTitle;
+					break;
+				case "type":
+					type = type == null ? value : type;
+					break;
+				case "deprecation":
+					deprecation = deprecation == null ? value : deprecation;
+					break;
+				case "profile":
+					profile = profile == null ? value : profile;
+					break;
+				case "name":
+					this.name = this.name == null ? value : this.name;
+					break;
+				default:
+					// Extension attributes not supported by Link
+					break;
+			}
+		}
+
+		String getRequiredRel() {
+
+			if (!StringUtils.hasText(rel)) {
+				throw new IllegalArgumentException("Link does not provide a rel attribute!");
+			}
+
+			return rel;
+		}
+
+		/**
+		 * Creates the {@link Link} for the given relation using a single constructor invocation.
+		 *
+		 * @param relation must not be {@literal null} or empty.
+		 * @return
+		 */
+		Link toLink(String relation) {
+
+			UriTemplate template = new UriTemplate(href);
+
+			return new Link(LinkRelation.of(relation), template.toString(), hreflang, media,
+					extendedTitle != null ? extendedTitle : title, type, deprecation, profile, name, template,
+					Collections.emptyList());
+		}
+	}
+}
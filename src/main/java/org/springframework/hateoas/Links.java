@@ -22,8 +22,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,7 +41,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public class Links implements Iterable<Link> {
 
 	public static final Links NONE = new Links(Collections.emptyList());
-	private static final Pattern LINK_HEADER_PATTERN = Pattern.compile("(<[^>]*>(;\\s*\\w+=\"[^\"]*\")+)");
 
 	private final List<Link> links;
 
@@ -90,7 +87,8 @@ public class Links implements Iterable<Link> {
 	}
 
 	/**
-	 * Creates a {@link Links} instance from the given RFC5988-compatible link format.
+	 * Creates a {@link Links} instance from the given RFC-8288-compatible link format. Link values carrying multiple link
+	 * relations result in a {@link Link} per relation, syntactically invalid link values are skipped.
 	 *
 	 * @param source a comma separated list of {@link Link} representations.
 	 * @return the {@link Links} represented by the given {@link String}.
@@ -101,19 +99,7 @@ public class Links implements Iterable<Link> {
 			return NONE;
 		}
 
-		Matcher matcher = LINK_HEADER_PATTERN.matcher(source);
-		List<Link> links = new ArrayList<>();
-
-		while (matcher.find()) {
-
-			Link link = Link.valueOf(matcher.group());
-
-			if (link != null) {
-				links.add(link);
-			}
-		}
-
-		return new Links(links);
+		return new Links(LinkParser.parseLinks(source));
 	}
 
 	/**
@@ -399,7 +385,23 @@ public class Links implements Iterable<Link> {
 	 */
 	@Override
 	public String toString() {
-		return StringUtils.collectionToCommaDelimitedString(links);
+
+		if (links.isEmpty()) {
+			return "";
+		}
+
+		StringBuilder builder = new StringBuilder(links.size() * 64);
+
+		for (int i = 0; i < links.size(); i++) {
+
+			if (i > 0) {
+				builder.append(',');
+			}
+
+			links.get(i).appendTo(builder);
+		}
+
+		return builder.toString();
 	}
 
 	/*
@@ -47,6 +47,26 @@ public class MediaTypes {
 	 */
 	public static final MediaType HAL_JSON_UTF8 = MediaType.valueOf(HAL_JSON_UTF8_VALUE);
 
+	/**
+	 * A String equivalent of {@link MediaTypes#HAL_CBOR}.
+	 */
+	public static final String HAL_CBOR_VALUE = "application/hal+cbor";
+
+	/**
+	 * Public constant media type for {@code application/hal+cbor}.
+	 */
+	public static final MediaType HAL_CBOR = MediaType.valueOf(HAL_CBOR_VALUE);
+
+	/**
+	 * A String equivalent of {@link MediaTypes#HAL_SMILE}.
+	 */
+	public static final String HAL_SMILE_VALUE = "application/hal+smile";
+
+	/**
+	 * Public constant media type for {@code application/hal+smile}.
+	 */
+	public static final MediaType HAL_SMILE = MediaType.valueOf(HAL_SMILE_VALUE);
+
 	/**
 	 * A String equivalent of {@link MediaTypes#ALPS_JSON}.
 	 */
@@ -67,6 +87,26 @@ public class MediaTypes {
 	 */
 	public static final MediaType HAL_FORMS_JSON = MediaType.parseMediaType(HAL_FORMS_JSON_VALUE);
 
+	/**
+	 * A String equivalent of {@link MediaTypes#HAL_FORMS_CBOR}.
+	 */
+	public static final String HAL_FORMS_CBOR_VALUE = "application/prs.hal-forms+cbor";
+
+	/**
+	 * Public constant media type for {@code application/prs.hal-forms+cbor}.
+	 */
+	public static final MediaType HAL_FORMS_CBOR = MediaType.parseMediaType(HAL_FORMS_CBOR_VALUE);
+
+	/**
+	 * A String equivalent of {@link MediaTypes#HAL_FORMS_SMILE}.
+	 */
+	public static final String HAL_FORMS_SMILE_VALUE = "application/prs.hal-forms+smile";
+
+	/**
+	 * Public constant media type for {@code application/prs.hal-forms+smile}.
+	 */
+	public static final MediaType HAL_FORMS_SMILE = MediaType.parseMediaType(HAL_FORMS_SMILE_VALUE);
+
 	/**
 	 * A String equivalent of {@link MediaTypes#COLLECTION_JSON}.
 	 */
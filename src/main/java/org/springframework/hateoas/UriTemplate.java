@@ -19,6 +19,7 @@ import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +47,14 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	private static final long serialVersionUID = -1007874653930162262L;
 
 	private final TemplateVariables variables;
-	private String baseUri;
+	private final String baseUri;
+
+	// Derived state, not part of the serialized form, see readResolve()
+	private final transient List<String> variableNames;
+	private final transient TemplateVariables requiredVariables;
+	private final transient TemplateVariables optionalVariables;
+	private final transient boolean hasQueryParameters;
+	private final transient String rendered;
 
 	/**
 	 * Creates a new {@link UriTemplate} using the given template string.
@@ -88,6 +96,12 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		this.variables = variables.isEmpty() ? TemplateVariables.NONE : new TemplateVariables(variables);
 		this.baseUri = template.substring(0, baseUriEndIndex);
+
+		this.variableNames = namesOf(this.variables);
+		this.requiredVariables = filter(this.variables, true);
+		this.optionalVariables = filter(this.variables, false);
+		this.hasQueryParameters = hasQueryParameters(this.baseUri);
+		this.rendered = render(this.baseUri, this.optionalVariables, this.hasQueryParameters);
 	}
 
 	/**
@@ -103,6 +117,12 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		this.baseUri = baseUri;
 		this.variables = variables;
+
+		this.variableNames = namesOf(variables);
+		this.requiredVariables = filter(variables, true);
+		this.optionalVariables = filter(variables, false);
+		this.hasQueryParameters = hasQueryParameters(baseUri);
+		this.rendered = render(baseUri, optionalVariables, hasQueryParameters);
 	}
 
 	/**
@@ -193,9 +213,17 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 * @return
 	 */
 	public List<String> getVariableNames() {
+		return variableNames;
+	}
 
-		return variables.asList().stream() //
-				.map(TemplateVariable::getName).collect(Collectors.toList());
+	/**
+	 * Returns whether the template contains any {@link TemplateVariable}s.
+	 *
+	 * @return
+	 * @since 1.0
+	 */
+	public boolean isTemplated() {
+		return !variableNames.isEmpty();
 	}
 
 	/**
@@ -208,7 +236,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 */
 	public URI expand(Object... parameters) {
 
-		if (TemplateVariables.NONE.equals(variables)) {
+		if (!isTemplated()) {
 			return URI.create(baseUri);
 		}
 
@@ -216,7 +244,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
 		Iterator<Object> iterator = Arrays.asList(parameters).iterator();
 
-		for (TemplateVariable variable : getOptionalVariables()) {
+		for (TemplateVariable variable : optionalVariables) {
 
 			Object value = iterator.hasNext() ? iterator.next() : null;
 			appendToBuilder(builder, variable, value);
@@ -233,7 +261,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 */
 	public URI expand(Map<String, ? extends Object> parameters) {
 
-		if (TemplateVariables.NONE.equals(variables)) {
+		if (!isTemplated()) {
 			return URI.create(baseUri);
 		}
 
@@ -242,7 +270,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
 		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
 
-		for (TemplateVariable variable : getOptionalVariables()) {
+		for (TemplateVariable variable : optionalVariables) {
 			appendToBuilder(builder, variable, parameters.get(variable.getName()));
 		}
 
@@ -264,18 +292,104 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 */
 	@Override
 	public String toString() {
+		return rendered;
+	}
 
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
-		boolean hasQueryParameters = !components.getQueryParams().isEmpty();
+	/**
+	 * Returns the {@link TemplateVariable}s that have to be expanded into the base URI.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	TemplateVariables getRequiredVariables() {
+		return requiredVariables;
+	}
+
+	/**
+	 * Returns the {@link TemplateVariable}s that are optional and thus appended to the base URI if a value is given.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	TemplateVariables getOptionalVariables() {
+		return optionalVariables;
+	}
+
+	/**
+	 * Recomputes the derived, transient state after deserialization. The serialized form is still only the base URI
+	 * and the {@link TemplateVariables}, so that instances serialized by previous versions stay compatible.
+	 *
+	 * @return
+	 */
+	private Object readResolve() {
+		return new UriTemplate(baseUri, variables);
+	}
+
+	private static List<String> namesOf(TemplateVariables variables) {
+
+		List<TemplateVariable> source = variables.asList();
+
+		if (source.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<String> names = new ArrayList<>(source.size());
+
+		for (TemplateVariable variable : source) {
+			names.add(variable.getName());
+		}
+
+		return Collections.unmodifiableList(names);
+	}
+
+	private static TemplateVariables filter(TemplateVariables variables, boolean required) {
+
+		List<TemplateVariable> source = variables.asList();
+
+		if (source.isEmpty()) {
+			return TemplateVariables.NONE;
+		}
+
+		List<TemplateVariable> result = source.stream() //
+				.filter(variable -> variable.isRequired() == required) //
+				.collect(Collectors.toList());
+
+		return result.size() == source.size() ? variables : new TemplateVariables(result);
+	}
+
+	/**
+	 * Returns whether the given base URI contains at least one query parameter. Mirrors what
+	 * {@link UriComponents#getQueryParams()} would report without parsing the entire URI.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean hasQueryParameters(String baseUri) {
+
+		int queryStart = baseUri.indexOf('?');
+
+		if (queryStart == -1) {
+			return false;
+		}
+
+		int fragmentStart = baseUri.indexOf('#', queryStart);
+		int queryEnd = fragmentStart == -1 ? baseUri.length() : fragmentStart;
+
+		for (int i = queryStart + 1; i < queryEnd; i++) {
+
+			char c = baseUri.charAt(i);
+
+			if (c != '&' && c != '=') {
+				return true;
+			}
+		}
 
-		return baseUri + getOptionalVariables().toString(hasQueryParameters);
+		return false;
 	}
 
-	private TemplateVariables getOptionalVariables() {
+	private static String render(String baseUri, TemplateVariables optionalVariables, boolean hasQueryParameters) {
 
-		return variables.asList().stream() //
-				.filter(variable -> !variable.isRequired()) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), TemplateVariables::new));
+		return optionalVariables.asList().isEmpty() //
+				? baseUri //
+				: baseUri + optionalVariables.toString(hasQueryParameters);
 	}
 
 	/**
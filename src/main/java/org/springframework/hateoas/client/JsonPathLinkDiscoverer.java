@@ -35,7 +35,6 @@ import org.springframework.util.Assert;
 
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.PathNotFoundException;
 
 /**
  * {@link LinkDiscoverer} that uses {@link JsonPath} to find links inside a representation.
@@ -115,7 +114,7 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 
 		} catch (IOException o_O) {
 			throw new RuntimeException(o_O);
-		} catch (PathNotFoundException o_O) {
+		} catch (InvalidPathException o_O) {
 			return Links.NONE;
 		}
 	}
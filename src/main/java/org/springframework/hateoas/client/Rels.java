@@ -15,6 +15,7 @@
  */
 package org.springframework.hateoas.client;
 
+import java.io.InputStream;
 import java.util.Optional;
 
 import org.springframework.hateoas.Link;
@@ -54,13 +55,14 @@ class Rels {
 	public interface Rel {
 
 		/**
-		 * Returns the link contained in the given representation of the given {@link MediaType}.
+		 * Returns the link contained in the given representation of the given {@link MediaType}. The representation is
+		 * consumed from the given {@link InputStream} so that callers don't need to buffer it in memory.
 		 *
-		 * @param representation
+		 * @param representation must not be {@literal null}.
 		 * @param mediaType
 		 * @return
 		 */
-		Optional<Link> findInResponse(String representation, MediaType mediaType);
+		Optional<Link> findInResponse(InputStream representation, MediaType mediaType);
 	}
 
 	/**
@@ -90,10 +92,10 @@ class Rels {
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.lang.String, org.springframework.http.MediaType)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
 		 */
 		@Override
-		public Optional<Link> findInResponse(String response, MediaType mediaType) {
+		public Optional<Link> findInResponse(InputStream response, MediaType mediaType) {
 
 			return discoverers //
 					.getRequiredLinkDiscovererFor(mediaType) //
@@ -138,11 +140,11 @@ class Rels {
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.lang.String, org.springframework.http.MediaType)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
 		 */
 		@Override
-		public Optional<Link> findInResponse(String representation, MediaType mediaType) {
-			return Optional.of(new Link(JsonPath.read(representation, jsonPath).toString(), rel));
+		public Optional<Link> findInResponse(InputStream representation, MediaType mediaType) {
+			return Optional.of(new Link(JsonPath.parse(representation).read(jsonPath).toString(), rel));
 		}
 	}
 }
@@ -20,13 +20,19 @@ import static org.springframework.http.HttpMethod.*;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.core.ParameterizedTypeReference;
@@ -35,13 +41,19 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.client.Rels.Rel;
 import org.springframework.hateoas.mediatype.hal.HalLinkDiscoverer;
+import org.springframework.hateoas.support.HypermediaEvents;
+import org.springframework.hateoas.support.HypermediaMetrics;
+import org.springframework.hateoas.support.HypermediaMetricsHolder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
@@ -199,6 +211,18 @@ public class Traverson {
 		return new HttpEntity<Void>(toSend);
 	}
 
+	/**
+	 * Returns a {@link RequestCallback} applying the headers of the given {@link HttpEntity} to the request. Used for
+	 * requests whose response is consumed as stream via {@link RestOperations#execute(URI,
+	 * org.springframework.http.HttpMethod, RequestCallback, org.springframework.web.client.ResponseExtractor)}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	private static RequestCallback toRequestCallback(HttpEntity<?> entity) {
+		return request -> request.getHeaders().putAll(entity.getHeaders());
+	}
+
 	/**
 	 * Builder API to customize traversals.
 	 *
@@ -323,8 +347,12 @@ public class Traverson {
 			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
 			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
 
-			String forObject = operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, String.class).getBody();
-			return JsonPath.read(forObject, jsonPath);
+			return operations.execute(uriAndHeaders.getUri(), GET, toRequestCallback(requestEntity), response -> {
+
+				try (InputStream body = response.getBody()) {
+					return JsonPath.parse(body).read(jsonPath);
+				}
+			});
 		}
 
 		/**
@@ -401,16 +429,21 @@ public class Traverson {
 			HttpEntity<?> request = prepareRequest(mergeHeaders(this.headers, extraHeaders));
 			UriTemplate template = new UriTemplate(uri);
 
-			ResponseEntity<String> responseEntity = operations.exchange(template.expand(), GET, request, String.class);
-			MediaType contentType = responseEntity.getHeaders().getContentType();
-			String responseBody = responseEntity.getBody();
-
 			Hop thisHop = rels.next();
 			Rel rel = Rels.getRelFor(thisHop.getRel(), discoverers);
 
-			Link link = rel.findInResponse(responseBody, contentType) //
-					.orElseThrow(() -> new IllegalStateException(
-							String.format("Expected to find link with rel '%s' in response %s!", rel, responseBody)));
+			HypermediaMetrics metrics = HypermediaMetricsHolder.getMetrics();
+			Object event = HypermediaEvents.beginTraversalHop();
+			long start = metrics.isEnabled() ? System.nanoTime() : 0;
+
+			Link link = operations.execute(template.expand(), GET, toRequestCallback(request), //
+					response -> findLink(rel, uri, response));
+
+			if (metrics.isEnabled()) {
+				metrics.recordTraversalHop(thisHop.getRel(), System.nanoTime() - start);
+			}
+
+			HypermediaEvents.commitTraversalHop(event, thisHop.getRel(), uri);
 
 			/*
 			 * Don't expand if the parameters are empty
@@ -423,6 +456,34 @@ public class Traverson {
 			}
 		}
 
+		/**
+		 * Looks up the {@link Link} for the given {@link Rel} in the given {@link ClientHttpResponse}. The body is read
+		 * as stream and whatever is left of it after the lookup is discarded, so that the representation is never
+		 * materialized as {@link String}. Only the beginning of the body is kept to be reported in case the link can't be
+		 * found.
+		 *
+		 * @param rel must not be {@literal null}.
+		 * @param uri the URI the response was obtained from, must not be {@literal null}.
+		 * @param response must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @throws IOException
+		 * @throws IllegalStateException in case no link with the given {@link Rel} can be found.
+		 */
+		private Link findLink(Rel rel, String uri, ClientHttpResponse response) throws IOException {
+
+			MediaType contentType = response.getHeaders().getContentType();
+
+			try (ExcerptRecordingInputStream body = new ExcerptRecordingInputStream(response.getBody())) {
+
+				Optional<Link> link = rel.findInResponse(StreamUtils.nonClosing(body), contentType);
+				StreamUtils.drain(body);
+
+				return link.orElseThrow(() -> new IllegalStateException(
+						String.format("Expected to find link with rel '%s' in response from %s (%s): %s!", rel, uri,
+								contentType, body.getExcerpt())));
+			}
+		}
+
 		/**
 		 * Combine two sets of {@link HttpHeaders} into one.
 		 *
@@ -462,4 +523,83 @@ public class Traverson {
 		private final URI uri;
 		private final HttpHeaders httpHeaders;
 	}
+
+	/**
+	 * {@link FilterInputStream} keeping the first bytes read from the delegate to be able to report them in error
+	 * messages.
+	 */
+	private static class ExcerptRecordingInputStream extends FilterInputStream {
+
+		private static final int EXCERPT_LENGTH = 1024;
+
+		private final ByteArrayOutputStream excerpt = new ByteArrayOutputStream();
+		private boolean truncated;
+
+		ExcerptRecordingInputStream(InputStream delegate) {
+			super(delegate);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read()
+		 */
+		@Override
+		public int read() throws IOException {
+
+			int b = super.read();
+
+			if (b == -1 || truncated) {
+				return b;
+			}
+
+			if (excerpt.size() < EXCERPT_LENGTH) {
+				excerpt.write(b);
+			} else {
+				truncated = true;
+			}
+
+			return b;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+
+			int read = super.read(b, off, len);
+
+			if (read > 0) {
+				record(b, off, read);
+			}
+
+			return read;
+		}
+
+		/**
+		 * Returns the beginning of the content read so far.
+		 *
+		 * @return
+		 */
+		String getExcerpt() {
+
+			String result = new String(excerpt.toByteArray(), StandardCharsets.UTF_8);
+
+			return truncated ? result.concat("…") : result;
+		}
+
+		private void record(byte[] b, int off, int len) {
+
+			int remaining = EXCERPT_LENGTH - excerpt.size();
+
+			if (len > remaining) {
+				truncated = true;
+			}
+
+			if (remaining > 0) {
+				excerpt.write(b, off, Math.min(len, remaining));
+			}
+		}
+	}
 }
@@ -21,10 +21,14 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
 
@@ -65,6 +69,20 @@ public @interface EnableHypermediaSupport {
 		 */
 		HAL(MediaTypes.HAL_JSON, MediaTypes.HAL_JSON_UTF8),
 
+		/**
+		 * HAL encoded in CBOR. Enables {@link #HAL} as well and requires Jackson's CBOR data format on the classpath.
+		 *
+		 * @see https://tools.ietf.org/html/rfc7049
+		 */
+		HAL_CBOR(MediaTypes.HAL_CBOR),
+
+		/**
+		 * HAL encoded in Smile. Enables {@link #HAL} as well and requires Jackson's Smile data format on the classpath.
+		 *
+		 * @see https://github.com/FasterXML/smile-format-specification
+		 */
+		HAL_SMILE(MediaTypes.HAL_SMILE),
+
 		/**
 		 * HAL-FORMS - Independent, backward-compatible extension of the HAL designed to add runtime FORM support
 		 *
@@ -72,6 +90,18 @@ public @interface EnableHypermediaSupport {
 		 */
 		HAL_FORMS(MediaTypes.HAL_FORMS_JSON),
 
+		/**
+		 * HAL-FORMS encoded in CBOR. Enables {@link #HAL_FORMS} as well and requires Jackson's CBOR data format on the
+		 * classpath.
+		 */
+		HAL_FORMS_CBOR(MediaTypes.HAL_FORMS_CBOR),
+
+		/**
+		 * HAL-FORMS encoded in Smile. Enables {@link #HAL_FORMS} as well and requires Jackson's Smile data format on the
+		 * classpath.
+		 */
+		HAL_FORMS_SMILE(MediaTypes.HAL_FORMS_SMILE),
+
 		/**
 		 * Collection+JSON
 		 *
@@ -95,5 +125,26 @@ public @interface EnableHypermediaSupport {
 		public List<MediaType> getMediaTypes() {
 			return this.mediaTypes;
 		}
+
+		/**
+		 * Returns the {@link MediaType}s of the {@link HypermediaType}s enabled via {@link EnableHypermediaSupport} on the
+		 * class described by the given {@link AnnotationMetadata}.
+		 *
+		 * @param metadata must not be {@literal null}.
+		 * @return will never be {@literal null}, empty if the class is not annotated with {@link EnableHypermediaSupport}.
+		 * @since 1.0
+		 */
+		public static List<MediaType> getEnabledMediaTypes(AnnotationMetadata metadata) {
+
+			Map<String, Object> attributes = metadata.getAnnotationAttributes(EnableHypermediaSupport.class.getName());
+
+			if (attributes == null) {
+				return Collections.emptyList();
+			}
+
+			return Arrays.stream((HypermediaType[]) attributes.get("type")) //
+					.flatMap(it -> it.getMediaTypes().stream()) //
+					.collect(Collectors.toList());
+		}
 	}
 }
@@ -16,6 +16,7 @@
 package org.springframework.hateoas.config;
 
 import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -25,6 +26,7 @@ import org.springframework.hateoas.client.LinkDiscoverer;
 import org.springframework.hateoas.client.LinkDiscoverers;
 import org.springframework.hateoas.server.LinkRelationProvider;
 import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+import org.springframework.hateoas.server.core.ControllerMappingsPreResolver;
 import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
 import org.springframework.hateoas.server.core.DelegatingLinkRelationProvider;
 import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
@@ -34,6 +36,8 @@ import org.springframework.plugin.core.config.EnablePluginRegistries;
 import org.springframework.plugin.core.support.PluginRegistryFactoryBean;
 import org.springframework.util.ClassUtils;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * Common HATEOAS specific configuration.
  *
@@ -98,6 +102,28 @@ class HateoasConfiguration {
 		return factory;
 	}
 
+	// Controller mappings
+
+	@Bean
+	ControllerMappingsPreResolver controllerMappingsPreResolver() {
+		return new ControllerMappingsPreResolver();
+	}
+
+	// Metrics
+
+	@Bean
+	HypermediaMetricsInstaller hypermediaMetricsInstaller() {
+		return new HypermediaMetricsInstaller();
+	}
+
+	// ObjectMappers
+
+	@Bean
+	HypermediaObjectMappers hypermediaObjectMappers(ObjectProvider<ObjectMapper> mapper,
+			ObjectProvider<HypermediaMappingInformation> hypermediaTypes) {
+		return new HypermediaObjectMappers(mapper.getIfAvailable(ObjectMapper::new), hypermediaTypes);
+	}
+
 	// LinkDiscoverers
 
 	@Bean
@@ -15,10 +15,7 @@
  */
 package org.springframework.hateoas.config;
 
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.context.annotation.ImportSelector;
 import org.springframework.core.io.support.SpringFactoriesLoader;
@@ -41,11 +38,7 @@ class HypermediaConfigurationImportSelector implements ImportSelector {
 	@Override
 	public String[] selectImports(AnnotationMetadata metadata) {
 
-		Map<String, Object> attributes = metadata.getAnnotationAttributes(EnableHypermediaSupport.class.getName());
-
-		Collection<MediaType> types = Arrays.stream((HypermediaType[]) attributes.get("type")) //
-				.flatMap(it -> it.getMediaTypes().stream()) //
-				.collect(Collectors.toList());
+		Collection<MediaType> types = HypermediaType.getEnabledMediaTypes(metadata);
 
 		Collection<MediaTypeConfigurationProvider> configurationProviders = SpringFactoriesLoader.loadFactories(
 				MediaTypeConfigurationProvider.class, HypermediaConfigurationImportSelector.class.getClassLoader());
@@ -15,11 +15,15 @@
  */
 package org.springframework.hateoas.config;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.springframework.http.MediaType;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -39,6 +43,17 @@ public interface HypermediaMappingInformation {
 	 */
 	List<MediaType> getMediaTypes();
 
+	/**
+	 * Returns the binary {@link MediaType}s the hypermedia can additionally be rendered in, mapped to the
+	 * {@link JsonFactory} of the corresponding Jackson data format. An {@link ObjectMapper} using that factory will be
+	 * handed into {@link #configureObjectMapper(ObjectMapper)} for each of them.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	default Map<MediaType, Supplier<JsonFactory>> getBinaryMediaTypes() {
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * Configure an {@link ObjectMapper} and register custom serializers and deserializers for the supported media types.
 	 * If all you want to do is register a Jackson {@link Module}, prefer implementing {@link #getJacksonModule()}.
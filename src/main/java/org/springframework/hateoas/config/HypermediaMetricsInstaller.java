@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.hateoas.support.HypermediaMetrics;
+import org.springframework.hateoas.support.HypermediaMetricsHolder;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Installs the {@link HypermediaMetrics} to be used with {@link HypermediaMetricsHolder}. Prefers a
+ * {@link HypermediaMetrics} bean and falls back to {@link MicrometerHypermediaMetrics} in case a Micrometer
+ * {@code MeterRegistry} bean is present. Leaves metrics disabled otherwise. As {@link HypermediaMetricsHolder} is
+ * global, the context started last determines the metrics in use, and its shutdown disables metrics for all other
+ * contexts that might still be running.
+ *
+ * @since 1.0
+ */
+class HypermediaMetricsInstaller implements BeanFactoryAware, SmartInitializingSingleton, DisposableBean {
+
+	private static final boolean MICROMETER_PRESENT = ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry",
+			HypermediaMetricsInstaller.class.getClassLoader());
+
+	private BeanFactory beanFactory;
+	private HypermediaMetrics installed;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanFactoryAware#setBeanFactory(org.springframework.beans.factory.BeanFactory)
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		HypermediaMetrics metrics = beanFactory.getBeanProvider(HypermediaMetrics.class).getIfUnique();
+
+		if (metrics == null && MICROMETER_PRESENT) {
+			metrics = MicrometerMetricsFactory.create(beanFactory);
+		}
+
+		if (metrics != null) {
+
+			HypermediaMetricsHolder.setMetrics(metrics);
+			this.installed = metrics;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		if (installed != null && HypermediaMetricsHolder.getMetrics() == installed) {
+			HypermediaMetricsHolder.resetMetrics();
+		}
+	}
+
+	/**
+	 * Separate type to only load Micrometer types if they're present.
+	 */
+	private static class MicrometerMetricsFactory {
+
+		static HypermediaMetrics create(BeanFactory beanFactory) {
+
+			MeterRegistry registry = beanFactory.getBeanProvider(MeterRegistry.class).getIfUnique();
+
+			return registry == null ? null : new MicrometerHypermediaMetrics(registry);
+		}
+	}
+}
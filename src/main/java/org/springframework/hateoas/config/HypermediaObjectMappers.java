@@ -0,0 +1,245 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.server.ExposesResourceFor;
+import org.springframework.hateoas.server.core.Relation;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Holds the {@link ObjectMapper}s configured for the registered {@link HypermediaMappingInformation}s, so that the
+ * server side message converters and codecs as well as all {@link org.springframework.web.client.RestTemplate}s and
+ * {@link org.springframework.web.reactive.function.client.WebClient}s of an application context share a single
+ * instance per media type and thus the serializer and deserializer caches built up in it.
+ * <p>
+ * If an {@link ObjectMapperPrewarming} bean is present, the serializers and deserializers for the domain types exposed
+ * by {@link ExposesResourceFor} controllers and the types annotated with {@link Relation} in the configured packages
+ * are looked up once all singletons are instantiated.
+ *
+ * @since 1.0
+ */
+public class HypermediaObjectMappers implements BeanFactoryAware, SmartInitializingSingleton {
+
+	private final ObjectMapper mapper;
+	private final Iterable<? extends HypermediaMappingInformation> hypermediaTypes;
+	private final Map<HypermediaMappingInformation, ObjectMapper> mappers = new ConcurrentHashMap<>();
+	private final Map<MediaType, ObjectMapper> binaryMappers = new ConcurrentHashMap<>();
+
+	private ListableBeanFactory beanFactory;
+
+	/**
+	 * Creates a new {@link HypermediaObjectMappers} for the given template {@link ObjectMapper} and
+	 * {@link HypermediaMappingInformation}s.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param hypermediaTypes must not be {@literal null}.
+	 */
+	public HypermediaObjectMappers(ObjectMapper mapper, ObjectProvider<HypermediaMappingInformation> hypermediaTypes) {
+		this(mapper, (Iterable<HypermediaMappingInformation>) hypermediaTypes);
+	}
+
+	/**
+	 * Creates a new {@link HypermediaObjectMappers} for the given template {@link ObjectMapper} and fixed set of
+	 * {@link HypermediaMappingInformation}s.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param hypermediaTypes must not be {@literal null}.
+	 */
+	HypermediaObjectMappers(ObjectMapper mapper, Iterable<? extends HypermediaMappingInformation> hypermediaTypes) {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(hypermediaTypes, "HypermediaMappingInformation must not be null!");
+
+		this.mapper = mapper;
+		this.hypermediaTypes = hypermediaTypes;
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} for the given {@link HypermediaMappingInformation}'s JSON based media types.
+	 *
+	 * @param hypermedia must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public ObjectMapper getObjectMapper(HypermediaMappingInformation hypermedia) {
+
+		Assert.notNull(hypermedia, "HypermediaMappingInformation must not be null!");
+
+		return mappers.computeIfAbsent(hypermedia, it -> it.configureObjectMapper(mapper.copy()));
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} for the given binary {@link MediaType} of the given
+	 * {@link HypermediaMappingInformation}. It uses the {@link JsonFactory} of the binary data format but is derived from
+	 * the template {@link ObjectMapper}, i.e. it carries the same modules, features, mixins and naming strategy.
+	 *
+	 * @param hypermedia must not be {@literal null}.
+	 * @param mediaType must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see HypermediaMappingInformation#getBinaryMediaTypes()
+	 */
+	public ObjectMapper getObjectMapper(HypermediaMappingInformation hypermedia, MediaType mediaType,
+			Supplier<JsonFactory> factory) {
+
+		Assert.notNull(hypermedia, "HypermediaMappingInformation must not be null!");
+		Assert.notNull(mediaType, "MediaType must not be null!");
+		Assert.notNull(factory, "JsonFactory must not be null!");
+
+		return binaryMappers.computeIfAbsent(mediaType,
+				__ -> hypermedia.configureObjectMapper(derive(mapper, factory.get())));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanFactoryAware#setBeanFactory(org.springframework.beans.factory.BeanFactory)
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+
+		if (beanFactory instanceof ListableBeanFactory) {
+			this.beanFactory = (ListableBeanFactory) beanFactory;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		if (beanFactory == null) {
+			return;
+		}
+
+		ObjectMapperPrewarming prewarming = beanFactory.getBeanProvider(ObjectMapperPrewarming.class).getIfAvailable();
+
+		if (prewarming == null) {
+			return;
+		}
+
+		Set<Class<?>> types = findDomainTypes(prewarming);
+
+		hypermediaTypes.forEach(hypermedia -> {
+
+			prewarm(getObjectMapper(hypermedia), types);
+
+			hypermedia.getBinaryMediaTypes()
+					.forEach((mediaType, factory) -> prewarm(getObjectMapper(hypermedia, mediaType, factory), types));
+		});
+	}
+
+	private Set<Class<?>> findDomainTypes(ObjectMapperPrewarming prewarming) {
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+
+		for (String beanName : beanFactory.getBeanNamesForAnnotation(ExposesResourceFor.class)) {
+			types.add(beanFactory.findAnnotationOnBean(beanName, ExposesResourceFor.class).value());
+		}
+
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
+		provider.addIncludeFilter(new AnnotationTypeFilter(Relation.class));
+
+		for (String basePackage : prewarming.getBasePackages()) {
+			for (BeanDefinition definition : provider.findCandidateComponents(basePackage)) {
+				types.add(ClassUtils.resolveClassName(definition.getBeanClassName(), ClassUtils.getDefaultClassLoader()));
+			}
+		}
+
+		return types;
+	}
+
+	/**
+	 * Resolves the root serializers and deserializers for the given domain types as well as for their
+	 * {@link EntityModel} and {@link CollectionModel} wrappers, which caches them in the given {@link ObjectMapper}.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param types must not be {@literal null}.
+	 */
+	private static void prewarm(ObjectMapper mapper, Collection<Class<?>> types) {
+
+		TypeFactory factory = mapper.getTypeFactory();
+
+		for (Class<?> type : types) {
+
+			JavaType entityModel = factory.constructParametricType(EntityModel.class, type);
+			JavaType collectionModel = factory.constructParametricType(CollectionModel.class, entityModel);
+
+			for (JavaType javaType : new JavaType[] { factory.constructType(type), entityModel, collectionModel }) {
+				mapper.writerFor(javaType);
+				mapper.readerFor(javaType);
+			}
+		}
+	}
+
+	/**
+	 * Creates a new {@link ObjectMapper} for the given {@link JsonFactory} carrying the configuration, registered
+	 * serializers and deserializers, mixins, config overrides and subtypes of the given source. Jackson 2.9 doesn't allow
+	 * to copy an {@link ObjectMapper} for a different {@link JsonFactory}, so we create an independent copy of the source
+	 * and adopt its state via the public configuration API. Config overrides have to be applied to the source, as the ones
+	 * applied to the derived {@link ObjectMapper} don't take effect.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @return
+	 */
+	private static ObjectMapper derive(ObjectMapper source, JsonFactory factory) {
+
+		ObjectMapper copy = source.copy();
+		ObjectMapper mapper = new ObjectMapper(factory, (DefaultSerializerProvider) copy.getSerializerProvider(),
+				(DefaultDeserializationContext) copy.getDeserializationContext());
+
+		mapper.setSerializerFactory(copy.getSerializerFactory());
+		mapper.setInjectableValues(copy.getInjectableValues());
+
+		// Configurations carry features, config overrides, mixins and subtypes
+		mapper.setConfig(copy.getSerializationConfig());
+		mapper.setConfig(copy.getDeserializationConfig());
+		mapper.setTypeFactory(copy.getTypeFactory());
+		mapper.setSubtypeResolver(copy.getSubtypeResolver());
+
+		// Keeps the source's mixins and lets the ones registered on the derived mapper take effect
+		mapper.setMixInResolver(copy.getSerializationConfig());
+
+		return mapper;
+	}
+}
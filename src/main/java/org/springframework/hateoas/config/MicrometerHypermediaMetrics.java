@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.hateoas.server.core.CachingMappingDiscoverer;
+import org.springframework.hateoas.server.core.UriTemplateFactory;
+import org.springframework.hateoas.support.HypermediaMetrics;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.MimeType;
+
+/**
+ * {@link HypermediaMetrics} publishing timers to a Micrometer {@link MeterRegistry}:
+ * <ul>
+ * <li>{@code hateoas.links} – link creation tagged with the {@code controller} linked to.</li>
+ * <li>{@code hateoas.processors} – invocations tagged with the {@code processor} type.</li>
+ * <li>{@code hateoas.serialization} – serialization tagged with the {@code media.type} rendered.</li>
+ * <li>{@code hateoas.traverson.hops} – traversal hops tagged with the {@code rel} followed.</li>
+ * </ul>
+ * The number of distinct values used per tag is limited, further values are reported as {@code other}. Additionally,
+ * {@code hateoas.cache.requests} counters tagged by {@code cache} and {@code result} expose the hit rates of the caches
+ * for controller mappings and URI templates.
+ * <p>
+ * Installed automatically if a {@link MeterRegistry} bean is present. Register an instance as Spring bean to customize
+ * the limit of tag values.
+ *
+ * @since 1.0
+ */
+public class MicrometerHypermediaMetrics implements HypermediaMetrics {
+
+	static final int DEFAULT_MAXIMUM_TAG_VALUES = 100;
+	static final String OTHER = "other";
+
+	private final GuardedTimers links, processors, serializations, hops;
+
+	/**
+	 * Creates a new {@link MicrometerHypermediaMetrics} for the given {@link MeterRegistry} using at most 100 distinct
+	 * values per tag.
+	 *
+	 * @param registry must not be {@literal null}.
+	 */
+	public MicrometerHypermediaMetrics(MeterRegistry registry) {
+		this(registry, DEFAULT_MAXIMUM_TAG_VALUES);
+	}
+
+	/**
+	 * Creates a new {@link MicrometerHypermediaMetrics} for the given {@link MeterRegistry} using at most the given
+	 * number of distinct values per tag.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param maximumTagValues must be greater than zero.
+	 */
+	public MicrometerHypermediaMetrics(MeterRegistry registry, int maximumTagValues) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null!");
+		Assert.isTrue(maximumTagValues > 0, "Maximum number of tag values must be greater than zero!");
+
+		this.links = new GuardedTimers(registry, "hateoas.links", "controller", maximumTagValues);
+		this.processors = new GuardedTimers(registry, "hateoas.processors", "processor", maximumTagValues);
+		this.serializations = new GuardedTimers(registry, "hateoas.serialization", "media.type", maximumTagValues);
+		this.hops = new GuardedTimers(registry, "hateoas.traverson.hops", "rel", maximumTagValues);
+
+		registerCacheCounters(registry, "mappings", CachingMappingDiscoverer::getHitCount,
+				CachingMappingDiscoverer::getMissCount);
+		registerCacheCounters(registry, "uri-templates", UriTemplateFactory::getHitCount,
+				UriTemplateFactory::getMissCount);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaMetrics#isEnabled()
+	 */
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaMetrics#recordLinkCreation(java.lang.Class, long)
+	 */
+	@Override
+	public void recordLinkCreation(Class<?> controller, long nanos) {
+		links.record(ClassUtils.getUserClass(controller).getName(), nanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaMetrics#recordProcessorInvocation(java.lang.Class, long)
+	 */
+	@Override
+	public void recordProcessorInvocation(Class<?> processor, long nanos) {
+		processors.record(ClassUtils.getUserClass(processor).getName(), nanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaMetrics#recordSerialization(org.springframework.util.MimeType, long)
+	 */
+	@Override
+	public void recordSerialization(MimeType mediaType, long nanos) {
+		serializations.record(mediaType == null ? "none" : mediaType.getType() + "/" + mediaType.getSubtype(), nanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HypermediaMetrics#recordTraversalHop(java.lang.String, long)
+	 */
+	@Override
+	public void recordTraversalHop(String rel, long nanos) {
+		hops.record(rel, nanos);
+	}
+
+	private void registerCacheCounters(MeterRegistry registry, String cache, LongSupplier hits, LongSupplier misses) {
+
+		FunctionCounter.builder("hateoas.cache.requests", this, __ -> hits.getAsLong()) //
+				.tags("cache", cache, "result", "hit") //
+				.register(registry);
+
+		FunctionCounter.builder("hateoas.cache.requests", this, __ -> misses.getAsLong()) //
+				.tags("cache", cache, "result", "miss") //
+				.register(registry);
+	}
+
+	/**
+	 * {@link Timer}s of the same name distinguished by a single tag. Only the given number of distinct tag values is
+	 * used, all others are recorded with a tag value of {@value MicrometerHypermediaMetrics#OTHER}.
+	 */
+	private static class GuardedTimers {
+
+		private final MeterRegistry registry;
+		private final String name, tag;
+		private final int maximumTagValues;
+		private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+		private final Timer other;
+
+		GuardedTimers(MeterRegistry registry, String name, String tag, int maximumTagValues) {
+
+			this.registry = registry;
+			this.name = name;
+			this.tag = tag;
+			this.maximumTagValues = maximumTagValues;
+			this.other = register(OTHER);
+		}
+
+		void record(String value, long nanos) {
+			getTimer(value).record(nanos, TimeUnit.NANOSECONDS);
+		}
+
+		private Timer getTimer(String value) {
+
+			Timer timer = timers.get(value);
+
+			if (timer != null) {
+				return timer;
+			}
+
+			if (timers.size() >= maximumTagValues) {
+				return other;
+			}
+
+			return timers.computeIfAbsent(value, this::register);
+		}
+
+		private Timer register(String value) {
+			return Timer.builder(name).tag(tag, value).register(registry);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Register an instance as Spring bean to look up the serializers and deserializers of the hypermedia
+ * {@link com.fasterxml.jackson.databind.ObjectMapper}s at startup instead of on the first request. Covers the domain
+ * types exposed by {@link org.springframework.hateoas.server.ExposesResourceFor} controllers and the types annotated
+ * with {@link org.springframework.hateoas.server.core.Relation} within the given base packages.
+ *
+ * @see HypermediaObjectMappers
+ * @since 1.0
+ */
+public class ObjectMapperPrewarming {
+
+	private final List<String> basePackages;
+
+	/**
+	 * Creates a new {@link ObjectMapperPrewarming} scanning the given base packages for types annotated with
+	 * {@link org.springframework.hateoas.server.core.Relation}.
+	 *
+	 * @param basePackages must not be {@literal null}.
+	 */
+	public ObjectMapperPrewarming(String... basePackages) {
+
+		Assert.notNull(basePackages, "Base packages must not be null!");
+
+		this.basePackages = Collections.unmodifiableList(Arrays.asList(basePackages));
+	}
+
+	/**
+	 * Returns the packages to scan for types annotated with {@link org.springframework.hateoas.server.core.Relation}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<String> getBasePackages() {
+		return basePackages;
+	}
+}
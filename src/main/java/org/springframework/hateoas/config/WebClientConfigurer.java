@@ -1,7 +1,5 @@
 package org.springframework.hateoas.config;
 
-import lombok.RequiredArgsConstructor;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -14,6 +12,7 @@ import org.springframework.core.codec.StringDecoder;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -27,25 +26,70 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * @since 1.0
  */
 @Configuration
-@RequiredArgsConstructor
 public class WebClientConfigurer {
 
-	private final ObjectMapper mapper;
+	private final HypermediaObjectMappers mappers;
 	private final Collection<HypermediaMappingInformation> hypermediaTypes;
 
+	private volatile ExchangeStrategies strategies;
+
+	/**
+	 * Creates a new {@link WebClientConfigurer} for the given {@link HypermediaObjectMappers} and
+	 * {@link HypermediaMappingInformation}s.
+	 *
+	 * @param mappers must not be {@literal null}.
+	 * @param hypermediaTypes must not be {@literal null}.
+	 */
+	public WebClientConfigurer(HypermediaObjectMappers mappers,
+			Collection<HypermediaMappingInformation> hypermediaTypes) {
+
+		Assert.notNull(mappers, "HypermediaObjectMappers must not be null!");
+		Assert.notNull(hypermediaTypes, "HypermediaMappingInformation must not be null!");
+
+		this.mappers = mappers;
+		this.hypermediaTypes = hypermediaTypes;
+	}
+
 	/**
-	 * Return a set of {@link ExchangeStrategies} driven by registered {@link HypermediaType}s.
+	 * Creates a new {@link WebClientConfigurer} deriving the {@link ObjectMapper}s for the given
+	 * {@link HypermediaMappingInformation}s from the given one.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param hypermediaTypes must not be {@literal null}.
+	 * @deprecated since 1.0, use {@link #WebClientConfigurer(HypermediaObjectMappers, Collection)} to share the
+	 *             {@link ObjectMapper}s of the application context.
+	 */
+	@Deprecated
+	public WebClientConfigurer(ObjectMapper mapper, Collection<HypermediaMappingInformation> hypermediaTypes) {
+		this(new HypermediaObjectMappers(mapper, hypermediaTypes), hypermediaTypes);
+	}
+
+	/**
+	 * Return a set of {@link ExchangeStrategies} driven by registered {@link HypermediaType}s. The strategies are
+	 * assembled once and shared by all {@link WebClient}s.
 	 *
 	 * @return a collection of {@link Encoder}s and {@link Decoder} assembled into a {@link ExchangeStrategies}.
 	 */
 	public ExchangeStrategies hypermediaExchangeStrategies() {
 
+		ExchangeStrategies strategies = this.strategies;
+
+		if (strategies == null) {
+			strategies = createExchangeStrategies();
+			this.strategies = strategies;
+		}
+
+		return strategies;
+	}
+
+	private ExchangeStrategies createExchangeStrategies() {
+
 		List<Encoder<?>> encoders = new ArrayList<>();
 		List<Decoder<?>> decoders = new ArrayList<>();
 
 		this.hypermediaTypes.forEach(hypermedia -> {
 
-			ObjectMapper objectMapper = hypermedia.configureObjectMapper(this.mapper.copy());
+			ObjectMapper objectMapper = mappers.getObjectMapper(hypermedia);
 			MimeType[] mimeTypes = hypermedia.getMediaTypes().toArray(new MimeType[0]);
 
 			encoders.add(new Jackson2JsonEncoder(objectMapper, mimeTypes));
@@ -27,6 +27,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.codec.CharSequenceEncoder;
 import org.springframework.core.codec.StringDecoder;
+import org.springframework.hateoas.server.core.ETagGenerator;
+import org.springframework.hateoas.server.core.RenderedRepresentationCache;
+import org.springframework.hateoas.server.reactive.CachingJackson2JsonEncoder;
+import org.springframework.hateoas.server.reactive.ETagEncoderHttpMessageWriter;
 import org.springframework.hateoas.server.reactive.HypermediaWebFilter;
 import org.springframework.http.codec.CodecConfigurer;
 import org.springframework.http.codec.ServerCodecConfigurer;
@@ -48,9 +52,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class WebFluxHateoasConfiguration {
 
 	@Bean
-	WebClientConfigurer webClientConfigurer(ObjectProvider<ObjectMapper> mapper,
+	WebClientConfigurer webClientConfigurer(HypermediaObjectMappers mappers,
 			Collection<HypermediaMappingInformation> hypermediaTypes) {
-		return new WebClientConfigurer(mapper.getIfAvailable(ObjectMapper::new), hypermediaTypes);
+		return new WebClientConfigurer(mappers, hypermediaTypes);
 	}
 
 	@Bean
@@ -60,10 +64,12 @@ class WebFluxHateoasConfiguration {
 	}
 
 	@Bean
-	HypermediaWebFluxConfigurer hypermediaWebFluxConfigurer(ObjectProvider<ObjectMapper> mapper,
-			Collection<HypermediaMappingInformation> hypermediaTypes) {
+	HypermediaWebFluxConfigurer hypermediaWebFluxConfigurer(HypermediaObjectMappers mappers,
+			Collection<HypermediaMappingInformation> hypermediaTypes, ObjectProvider<RenderedRepresentationCache> cache,
+			ObjectProvider<ETagGenerator> eTagGenerator) {
 
-		return new HypermediaWebFluxConfigurer(mapper.getIfAvailable(ObjectMapper::new), hypermediaTypes);
+		return new HypermediaWebFluxConfigurer(mappers, hypermediaTypes, cache.getIfAvailable(),
+				eTagGenerator.getIfAvailable());
 	}
 
 	/**
@@ -113,8 +119,10 @@ class WebFluxHateoasConfiguration {
 	@RequiredArgsConstructor
 	static class HypermediaWebFluxConfigurer implements WebFluxConfigurer {
 
-		private final ObjectMapper mapper;
+		private final HypermediaObjectMappers mappers;
 		private final Collection<HypermediaMappingInformation> hypermediaTypes;
+		private final RenderedRepresentationCache cache;
+		private final ETagGenerator eTagGenerator;
 
 		/**
 		 * Configure custom HTTP message readers and writers or override built-in ones.
@@ -130,11 +138,12 @@ class WebFluxHateoasConfiguration {
 
 			this.hypermediaTypes.forEach(hypermedia -> {
 
+				hypermedia.getBinaryMediaTypes().forEach((mediaType, factory) -> registerCodecs(customCodecs,
+						mappers.getObjectMapper(hypermedia, mediaType, factory), mediaType));
+
 				MimeType[] mimeTypes = hypermedia.getMediaTypes().toArray(new MimeType[0]);
 
-				ObjectMapper objectMapper = hypermedia.configureObjectMapper(this.mapper.copy());
-				customCodecs.encoder(new Jackson2JsonEncoder(objectMapper, mimeTypes));
-				customCodecs.decoder(new Jackson2JsonDecoder(objectMapper, mimeTypes));
+				registerCodecs(customCodecs, mappers.getObjectMapper(hypermedia), mimeTypes);
 			});
 
 			customCodecs.encoder(CharSequenceEncoder.allMimeTypes());
@@ -142,6 +151,25 @@ class WebFluxHateoasConfiguration {
 
 			configurer.registerDefaults(false);
 		}
+
+		private void registerCodecs(CodecConfigurer.CustomCodecs customCodecs, ObjectMapper objectMapper,
+				MimeType... mimeTypes) {
+
+			Jackson2JsonEncoder encoder = cache == null //
+					? new Jackson2JsonEncoder(objectMapper, mimeTypes) //
+					: new CachingJackson2JsonEncoder(objectMapper, cache, mimeTypes);
+
+			if (eTagGenerator == null) {
+				customCodecs.encoder(encoder);
+			} else {
+				customCodecs.writer(new ETagEncoderHttpMessageWriter<>(encoder, eTagGenerator));
+			}
+
+			// Decoding is non-blocking and thus requires parsers that support it (e.g. not CBOR)
+			if (objectMapper.getFactory().canParseAsync()) {
+				customCodecs.decoder(new Jackson2JsonDecoder(objectMapper, mimeTypes));
+			}
+		}
 	}
 
 }
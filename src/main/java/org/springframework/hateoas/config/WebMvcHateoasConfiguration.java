@@ -18,6 +18,7 @@ package org.springframework.hateoas.config;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,9 +28,12 @@ import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.ETagGenerator;
+import org.springframework.hateoas.server.core.RenderedRepresentationCache;
 import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
 import org.springframework.hateoas.server.mvc.UriComponentsContributor;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilderFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -45,10 +49,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class WebMvcHateoasConfiguration {
 
 	@Bean
-	HypermediaWebMvcConfigurer hypermediaWebMvcConfigurer(ObjectProvider<ObjectMapper> mapper,
-			Collection<HypermediaMappingInformation> hypermediaTypes) {
+	HypermediaWebMvcConfigurer hypermediaWebMvcConfigurer(HypermediaObjectMappers mappers,
+			Collection<HypermediaMappingInformation> hypermediaTypes, ObjectProvider<RenderedRepresentationCache> cache,
+			ObjectProvider<ETagGenerator> eTagGenerator) {
 
-		return new HypermediaWebMvcConfigurer(mapper.getIfAvailable(ObjectMapper::new), hypermediaTypes);
+		return new HypermediaWebMvcConfigurer(mappers, hypermediaTypes, cache.getIfAvailable(),
+				eTagGenerator.getIfAvailable());
 	}
 
 	@Bean
@@ -73,8 +79,10 @@ class WebMvcHateoasConfiguration {
 	@RequiredArgsConstructor
 	static class HypermediaWebMvcConfigurer implements WebMvcConfigurer {
 
-		private final ObjectMapper mapper;
+		private final HypermediaObjectMappers mappers;
 		private final Collection<HypermediaMappingInformation> hypermediaTypes;
+		private final RenderedRepresentationCache cache;
+		private final ETagGenerator eTagGenerator;
 
 		/*
 		 * (non-Javadoc)
@@ -85,10 +93,32 @@ class WebMvcHateoasConfiguration {
 
 			this.hypermediaTypes.forEach(hypermedia -> {
 
-				converters.add(0, new TypeConstrainedMappingJackson2HttpMessageConverter(RepresentationModel.class,
-						hypermedia.getMediaTypes(), hypermedia.configureObjectMapper(mapper.copy())));
+				hypermedia.getBinaryMediaTypes().forEach((mediaType, factory) -> {
+
+					TypeConstrainedMappingJackson2HttpMessageConverter converter = createConverter(
+							Collections.singletonList(mediaType), mappers.getObjectMapper(hypermedia, mediaType, factory));
+
+					// Binary formats don't carry a charset
+					converter.setDefaultCharset(null);
+
+					converters.add(0, converter);
+				});
+
+				converters.add(0, createConverter(hypermedia.getMediaTypes(), mappers.getObjectMapper(hypermedia)));
 			});
 		}
+
+		private TypeConstrainedMappingJackson2HttpMessageConverter createConverter(List<MediaType> mediaTypes,
+				ObjectMapper objectMapper) {
+
+			TypeConstrainedMappingJackson2HttpMessageConverter converter = //
+					new TypeConstrainedMappingJackson2HttpMessageConverter(RepresentationModel.class, mediaTypes,
+							objectMapper);
+			converter.setRenderedRepresentationCache(cache);
+			converter.setETagGenerator(eTagGenerator);
+
+			return converter;
+		}
 	}
 
 	/**
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Maps binary hypermedia types to the Jackson data formats (CBOR and Smile) rendering them.
+ *
+ * @since 1.0
+ */
+public final class JacksonBinaryFormats {
+
+	private static final boolean CBOR_PRESENT = ClassUtils.isPresent("com.fasterxml.jackson.dataformat.cbor.CBORFactory",
+			JacksonBinaryFormats.class.getClassLoader());
+	private static final boolean SMILE_PRESENT = ClassUtils.isPresent(
+			"com.fasterxml.jackson.dataformat.smile.SmileFactory", JacksonBinaryFormats.class.getClassLoader());
+
+	private JacksonBinaryFormats() {}
+
+	/**
+	 * Returns those of the given CBOR and Smile {@link MediaType}s that are contained in the given enabled ones, mapped to
+	 * the {@link JsonFactory} of the corresponding data format.
+	 *
+	 * @param enabled must not be {@literal null}.
+	 * @param cbor must not be {@literal null}.
+	 * @param smile must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalStateException in case a media type is enabled but its data format is not present on the classpath.
+	 */
+	public static Map<MediaType, Supplier<JsonFactory>> forMediaTypes(Collection<MediaType> enabled, MediaType cbor,
+			MediaType smile) {
+
+		Assert.notNull(enabled, "Enabled media types must not be null!");
+		Assert.notNull(cbor, "CBOR media type must not be null!");
+		Assert.notNull(smile, "Smile media type must not be null!");
+
+		Map<MediaType, Supplier<JsonFactory>> formats = new LinkedHashMap<>();
+
+		if (enabled.contains(cbor)) {
+			formats.put(verifyPresent(cbor, CBOR_PRESENT, "jackson-dataformat-cbor"), CBORFactory::new);
+		}
+
+		if (enabled.contains(smile)) {
+			formats.put(verifyPresent(smile, SMILE_PRESENT, "jackson-dataformat-smile"), SmileFactory::new);
+		}
+
+		return Collections.unmodifiableMap(formats);
+	}
+
+	private static MediaType verifyPresent(MediaType mediaType, boolean present, String artifact) {
+
+		if (!present) {
+			throw new IllegalStateException(
+					String.format("Support for %s requires %s on the classpath!", mediaType, artifact));
+		}
+
+		return mediaType;
+	}
+}
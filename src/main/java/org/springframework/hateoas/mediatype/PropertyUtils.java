@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -37,6 +38,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.support.WebStack;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -48,6 +50,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 public class PropertyUtils {
 
 	private final static HashSet<String> FIELDS_TO_IGNORE = new HashSet<>();
+	private final static Map<Class<?>, List<PropertyDescriptor>> DESCRIPTORS = new ConcurrentReferenceHashMap<>();
 
 	static {
 		FIELDS_TO_IGNORE.add("class");
@@ -64,9 +67,7 @@ public class PropertyUtils {
 			.collect(HashMap::new,
 				(hashMap, descriptor) -> {
 					try {
-						Method readMethod = descriptor.getReadMethod();
-						ReflectionUtils.makeAccessible(readMethod);
-						hashMap.put(descriptor.getName(), readMethod.invoke(object));
+						hashMap.put(descriptor.getName(), descriptor.getReadMethod().invoke(object));
 					} catch (IllegalAccessException | InvocationTargetException e) {
 						throw new RuntimeException(e);
 					}
@@ -118,18 +119,31 @@ public class PropertyUtils {
 	}
 
 	/**
-	 * Take a {@link Class} and find all properties that are NOT to be ignored, and return them as a {@link Stream}.
+	 * Take a {@link Class} and find all properties that are NOT to be ignored, and return them as a {@link Stream}. The
+	 * lookup result is cached per type and the read methods of the returned descriptors are already made accessible.
 	 * 
 	 * @param clazz
 	 * @return
 	 */
 	private static Stream<PropertyDescriptor> getPropertyDescriptors(Class<?> clazz) {
+		return DESCRIPTORS.computeIfAbsent(clazz, PropertyUtils::findPropertyDescriptors).stream();
+	}
+
+	private static List<PropertyDescriptor> findPropertyDescriptors(Class<?> clazz) {
 
-		return Arrays.stream(BeanUtils.getPropertyDescriptors(clazz))
+		List<PropertyDescriptor> descriptors = Arrays.stream(BeanUtils.getPropertyDescriptors(clazz))
 			.filter(descriptor -> !FIELDS_TO_IGNORE.contains(descriptor.getName()))
 			.filter(descriptor -> !descriptorToBeIgnoredByJackson(clazz, descriptor))
 			.filter(descriptor -> !toBeIgnoredByJackson(clazz, descriptor.getName()))
-			.filter(descriptor -> !readerIsNotToBeIgnoredByJackson(descriptor));
+			.filter(descriptor -> !readerIsNotToBeIgnoredByJackson(descriptor))
+			.collect(Collectors.toList());
+
+		descriptors.stream() //
+			.map(PropertyDescriptor::getReadMethod) //
+			.filter(Objects::nonNull) //
+			.forEach(ReflectionUtils::makeAccessible);
+
+		return descriptors;
 	}
 
 	/**
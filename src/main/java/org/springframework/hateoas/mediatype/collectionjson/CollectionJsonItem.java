@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.experimental.Wither;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -36,6 +37,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 
 /**
@@ -51,7 +53,7 @@ class CollectionJsonItem<T> {
 	private String href;
 	private List<CollectionJsonData> data;
 	private @JsonInclude(Include.NON_EMPTY) Links links;
-	private @Getter(onMethod = @__({ @JsonIgnore }), value = AccessLevel.PRIVATE) T rawData;
+	private @Getter(onMethod = @__({ @JsonIgnore }), value = AccessLevel.PACKAGE) T rawData;
 
 	@JsonCreator
 	CollectionJsonItem(@JsonProperty("href") String href, //
@@ -71,7 +73,7 @@ class CollectionJsonItem<T> {
 	/**
 	 * Simple scalar types that can be encoded by value, not type.
 	 */
-	private final static Set<Class<?>> PRIMITIVE_TYPES = Collections.singleton(String.class);
+	final static Set<Class<?>> PRIMITIVE_TYPES = Collections.singleton(String.class);
 
 	/**
 	 * Transform a domain object into a collection of {@link CollectionJsonData} objects to serialize properly.
@@ -97,16 +99,17 @@ class CollectionJsonItem<T> {
 	 * Generate an object used the deserialized properties and the provided type from the deserializer.
 	 *
 	 * @param javaType - type of the object to create
+	 * @param context - the current {@link DeserializationContext}
 	 * @return
+	 * @throws IOException
 	 */
-	public Object toRawData(JavaType javaType) {
+	public Object toRawData(JavaType javaType, DeserializationContext context) throws IOException {
 
 		if (PRIMITIVE_TYPES.contains(javaType.getRawClass())) {
 			return this.data.get(0).getValue();
 		}
 
-		return PropertyUtils.createObjectFromProperties(javaType.getRawClass(), //
-				this.data.stream().collect(Collectors.toMap(CollectionJsonData::getName, CollectionJsonData::getValue)));
+		return Jackson2CollectionJsonModule.bindData(this.data, javaType, context);
 	}
 
 	public CollectionJsonItem<T> withLinks(Link... links) {
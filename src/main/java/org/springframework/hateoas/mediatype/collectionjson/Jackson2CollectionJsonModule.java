@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -38,7 +39,9 @@ import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.mediatype.JacksonHelper;
 import org.springframework.hateoas.mediatype.PropertyUtils;
 import org.springframework.http.HttpMethod;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -50,13 +53,16 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.deser.std.ContainerDeserializerBase;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * Jackson 2 module implementation to render {@link CollectionModel}, {@link EntityModel}, and
@@ -83,6 +89,7 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 		addSerializer(new CollectionJsonResourceSerializer());
 		addSerializer(new CollectionJsonResourceSupportSerializer());
 		addSerializer(new CollectionJsonLinksSerializer());
+		addSerializer(new CollectionJsonItemSerializer());
 		addDeserializer(Links.class, new CollectionJsonLinksDeserializer());
 	}
 
@@ -160,12 +167,99 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Custom {@link JsonSerializer} to render {@link CollectionJsonItem}s. Writes the {@literal data} entries directly
+	 * from the raw domain object backing the item instead of creating intermediate {@link CollectionJsonData} instances
+	 * for each of its properties.
+	 */
+	static class CollectionJsonItemSerializer extends StdSerializer<CollectionJsonItem<?>> {
+
+		private static final long serialVersionUID = -3577437413412380853L;
+
+		CollectionJsonItemSerializer() {
+			super(CollectionJsonItem.class, false);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.std.StdSerializer#serialize(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void serialize(CollectionJsonItem<?> value, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			jgen.writeStartObject();
+
+			if (value.getHref() != null || includesNullValues(provider)) {
+				jgen.writeStringField("href", value.getHref());
+			}
+
+			Object rawData = value.getRawData();
+
+			if (rawData == null) {
+				provider.defaultSerializeField("data", value.getData(), jgen);
+			} else {
+				writeRawData(rawData, jgen, provider);
+			}
+
+			Links links = value.getLinks();
+
+			if (links != null && !links.isEmpty()) {
+
+				jgen.writeFieldName("links");
+				provider.findValueSerializer(Links.class).serialize(links, jgen, provider);
+			}
+
+			jgen.writeEndObject();
+		}
+
+		private static void writeRawData(Object rawData, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			jgen.writeArrayFieldStart("data");
+
+			if (CollectionJsonItem.PRIMITIVE_TYPES.contains(rawData.getClass())) {
+
+				jgen.writeStartObject();
+				provider.defaultSerializeField("value", rawData, jgen);
+				jgen.writeEndObject();
+
+			} else {
+
+				for (Entry<String, Object> property : PropertyUtils.findProperties(rawData).entrySet()) {
+
+					jgen.writeStartObject();
+					jgen.writeStringField("name", property.getKey());
+
+					if (property.getValue() != null) {
+						provider.defaultSerializeField("value", property.getValue(), jgen);
+					}
+
+					jgen.writeEndObject();
+				}
+			}
+
+			jgen.writeEndArray();
+		}
+
+		private static boolean includesNullValues(SerializerProvider provider) {
+
+			Include inclusion = provider.getConfig() //
+					.getDefaultPropertyInclusion(CollectionJsonItem.class) //
+					.getValueInclusion();
+
+			return inclusion == Include.ALWAYS || inclusion == Include.USE_DEFAULTS;
+		}
+	}
+
 	static class CollectionJsonResourceSupportSerializer extends ContainerSerializer<RepresentationModel<?>>
 			implements ContextualSerializer {
 
 		private static final long serialVersionUID = 6127711241993352699L;
 
 		private final BeanProperty property;
+		private final Map<BeanProperty, CollectionJsonResourceSupportSerializer> contextuals = //
+				new ConcurrentReferenceHashMap<>();
 
 		CollectionJsonResourceSupportSerializer() {
 			this(null);
@@ -207,7 +301,9 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new CollectionJsonResourceSupportSerializer(property);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, CollectionJsonResourceSupportSerializer::new);
 		}
 
 		@Override
@@ -237,6 +333,8 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 		private static final long serialVersionUID = 2212535956767860364L;
 
 		private final BeanProperty property;
+		private final Map<BeanProperty, CollectionJsonResourceSerializer> contextuals = //
+				new ConcurrentReferenceHashMap<>();
 
 		CollectionJsonResourceSerializer() {
 			this(null);
@@ -274,7 +372,9 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new CollectionJsonResourceSerializer(property);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, CollectionJsonResourceSerializer::new);
 		}
 
 		@Override
@@ -380,6 +480,8 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 		private static final long serialVersionUID = -6703190072925382402L;
 
 		private final BeanProperty property;
+		private final Map<BeanProperty, CollectionJsonPagedResourcesSerializer> contextuals = //
+				new ConcurrentReferenceHashMap<>();
 
 		CollectionJsonPagedResourcesSerializer() {
 			this(null);
@@ -410,7 +512,9 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new CollectionJsonPagedResourcesSerializer(property);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, CollectionJsonPagedResourcesSerializer::new);
 		}
 
 		@Override
@@ -543,18 +647,15 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 
 				CollectionJsonItem<?> firstItem = items.get(0).withOwnSelfLink();
 
-				RepresentationModel<?> resource = (RepresentationModel<?>) firstItem.toRawData(this.contentType);
+				RepresentationModel<?> resource = (RepresentationModel<?>) firstItem.toRawData(this.contentType, ctxt);
 				return resource.add(firstItem.getLinks().merge(merged));
 
 			}
 
 			if (withOwnSelfLink.getTemplate() != null) {
 
-				Map<String, Object> properties = withOwnSelfLink.getTemplate().getData().stream()
-						.collect(Collectors.toMap(CollectionJsonData::getName, CollectionJsonData::getValue));
-
-				RepresentationModel<?> resourceSupport = (RepresentationModel<?>) PropertyUtils
-						.createObjectFromProperties(this.contentType.getRawClass(), properties);
+				RepresentationModel<?> resourceSupport = (RepresentationModel<?>) bindData(
+						withOwnSelfLink.getTemplate().getData(), this.contentType, ctxt);
 
 				return resourceSupport.add(withOwnSelfLink.getLinks());
 
@@ -617,10 +718,7 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 
 			if (items.size() == 0 && document.getCollection().getTemplate() != null) {
 
-				Map<String, Object> properties = document.getCollection().getTemplate().getData().stream()
-						.collect(Collectors.toMap(CollectionJsonData::getName, CollectionJsonData::getValue));
-
-				Object obj = PropertyUtils.createObjectFromProperties(rootType.getRawClass(), properties);
+				Object obj = bindData(document.getCollection().getTemplate().getData(), rootType, ctxt);
 
 				return new EntityModel<>(obj, links);
 			} else {
@@ -633,7 +731,7 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 
 				CollectionJsonItem<?> firstItem = items.get(0).withOwnSelfLink();
 
-				return new EntityModel<>(firstItem.toRawData(rootType),
+				return new EntityModel<>(firstItem.toRawData(rootType, ctxt),
 						merged.merge(MergeMode.REPLACE_BY_REL, firstItem.getLinks()));
 			}
 		}
@@ -729,12 +827,17 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 
 			boolean isResource = contentType.hasGenericTypes() && contentType.containedType(0).hasRawClass(EntityModel.class);
 
-			return collection.getItems().stream() //
-					.map(CollectionJsonItem::withOwnSelfLink) //
-					.<Object> map(it -> isResource //
-							? new EntityModel<>(it.toRawData(rootType), it.getLinks()) //
-							: it.toRawData(rootType)) //
-					.collect(Collectors.collectingAndThen(Collectors.toList(), it -> finalizer.apply(it, links)));
+			List<Object> content = new ArrayList<>(collection.getItems().size());
+
+			for (CollectionJsonItem<?> item : collection.getItems()) {
+
+				CollectionJsonItem<?> withOwnSelfLink = item.withOwnSelfLink();
+				Object rawData = withOwnSelfLink.toRawData(rootType, ctxt);
+
+				content.add(isResource ? new EntityModel<>(rawData, withOwnSelfLink.getLinks()) : rawData);
+			}
+
+			return finalizer.apply(content, links);
 		}
 	}
 
@@ -769,6 +872,55 @@ class Jackson2CollectionJsonModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Binds the given {@link CollectionJsonData} name/value pairs to an instance of the given type by handing them to the
+	 * {@link JsonDeserializer} Jackson uses for that type as token stream. Pairs for which the deserializer does not
+	 * know a property are skipped. {@link RepresentationModel} types are still instantiated reflectively, as they're
+	 * mapped onto the Collection+JSON specific deserializers of this module.
+	 *
+	 * @param data must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	static Object bindData(List<CollectionJsonData> data, JavaType type, DeserializationContext context)
+			throws IOException {
+
+		if (RepresentationModel.class.isAssignableFrom(type.getRawClass())) {
+
+			Map<String, Object> properties = data.stream() //
+					.collect(Collectors.toMap(CollectionJsonData::getName, CollectionJsonData::getValue));
+
+			return PropertyUtils.createObjectFromProperties(type.getRawClass(), properties);
+		}
+
+		JsonDeserializer<Object> deserializer = context.findRootValueDeserializer(type);
+		BeanDeserializerBase beanDeserializer = deserializer instanceof BeanDeserializerBase //
+				? (BeanDeserializerBase) deserializer //
+				: null;
+
+		TokenBuffer buffer = new TokenBuffer(context.getParser(), context);
+		buffer.writeStartObject();
+
+		for (CollectionJsonData item : data) {
+
+			if (beanDeserializer != null && beanDeserializer.findProperty(item.getName()) == null) {
+				continue;
+			}
+
+			buffer.writeFieldName(item.getName());
+			buffer.writeObject(item.getValue());
+		}
+
+		buffer.writeEndObject();
+
+		JsonParser parser = buffer.asParser(context.getParser().getCodec());
+		parser.nextToken();
+
+		return deserializer.deserialize(parser, context);
+	}
+
 	private static List<CollectionJsonItem<Object>> resourcesToCollectionJsonItems(CollectionModel<?> resources) {
 
 		return resources.getContent().stream().map(content -> {
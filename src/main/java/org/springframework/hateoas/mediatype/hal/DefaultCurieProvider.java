@@ -20,18 +20,22 @@ import lombok.Getter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.server.mvc.UriComponentsBuilderFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
- * Default implementation of {@link CurieProvider} rendering a single configurable {@link UriTemplate} based curie.
+ * Default implementation of {@link CurieProvider} rendering a single configurable {@link UriTemplate} based curie. The
+ * curie information is created once per application URI (for a bounded number of them) and the namespaced link
+ * relations are cached.
  *
  * @author Oliver Gierke
  * @author Jeff Stano
@@ -40,8 +44,13 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
  */
 public class DefaultCurieProvider implements CurieProvider {
 
+	private static final int CURIE_INFORMATION_CACHE_LIMIT = 32;
+
 	private final Map<String, UriTemplate> curies;
 	private final String defaultCurie;
+	private final boolean hasRelativeCuries;
+	private final Map<String, Collection<? extends Object>> curieInformation = new ConcurrentHashMap<>();
+	private final Map<LinkRelation, HalLinkRelation> namespacedRelations = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link DefaultCurieProvider} for the given name and {@link UriTemplate}. The curie will be used to
@@ -90,6 +99,7 @@ public class DefaultCurieProvider implements CurieProvider {
 		this.defaultCurie = StringUtils.hasText(defaultCurieName) ? defaultCurieName
 				: curies.size() == 1 ? curies.keySet().iterator().next() : null;
 		this.curies = Collections.unmodifiableMap(curies);
+		this.hasRelativeCuries = curies.values().stream().anyMatch(it -> !it.toString().startsWith("http"));
 	}
 
 	/*
@@ -99,9 +109,25 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public Collection<? extends Object> getCurieInformation(Links links) {
 
-		return curies.entrySet().stream() //
-				.map(it -> new Curie(it.getKey(), getCurieHref(it.getKey(), it.getValue()))) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableCollection));
+		if (!isCurieInformationCacheable()) {
+			return createCurieInformation();
+		}
+
+		String applicationUri = hasRelativeCuries ? getApplicationUri() : "";
+		Collection<? extends Object> result = curieInformation.get(applicationUri);
+
+		if (result != null) {
+			return result;
+		}
+
+		result = createCurieInformation();
+
+		// The application URI is derived from request headers, so we only keep a bounded number of them
+		if (curieInformation.size() < CURIE_INFORMATION_CACHE_LIMIT) {
+			curieInformation.putIfAbsent(applicationUri, result);
+		}
+
+		return result;
 	}
 
 	/*
@@ -120,18 +146,24 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public HalLinkRelation getNamespacedRelFor(LinkRelation relation) {
 
-		HalLinkRelation result = HalLinkRelation.of(relation);
+		return namespacedRelations.computeIfAbsent(relation, it -> {
+
+			HalLinkRelation result = HalLinkRelation.of(it);
 
-		return defaultCurie == null ? result : result.curieIfUncuried(defaultCurie);
+			return defaultCurie == null ? result : result.curieIfUncuried(defaultCurie);
+		});
 	}
 
 	/**
 	 * Returns the href for the {@link Curie} instance to be created. Will prepend the current application URI (servlet
-	 * mapping) in case the template is not an absolute one in the first place.
+	 * mapping) as resolved once per request in case the template is not an absolute one in the first place. A leading
+	 * slash of the template is dropped if the application URI already ends with one, so that the href doesn't contain a
+	 * double slash.
 	 *
 	 * @param name will never be {@literal null} or empty.
 	 * @param template will never be {@literal null}.
 	 * @return the {@link String} to be used as href in the {@link Curie} to be created, must not be {@literal null}.
+	 * @see #isCurieInformationCacheable()
 	 */
 	protected String getCurieHref(String name, UriTemplate template) {
 
@@ -139,8 +171,36 @@ public class DefaultCurieProvider implements CurieProvider {
 			return template.toString();
 		}
 
-		String applicationUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().expand().toString();
-		return applicationUri.concat(template.toString());
+		String applicationUri = getApplicationUri();
+		String href = template.toString();
+
+		return applicationUri.endsWith("/") && href.startsWith("/") //
+				? applicationUri.concat(href.substring(1)) //
+				: applicationUri.concat(href);
+	}
+
+	/**
+	 * Returns whether the curie information created via {@link #getCurieHref(String, UriTemplate)} can be cached per
+	 * application URI. As subclasses might customize {@link #getCurieHref(String, UriTemplate)} to return hrefs depending
+	 * on more than the application URI, caching is only enabled for {@link DefaultCurieProvider} itself. Override to
+	 * return {@literal true} to opt in for subclasses.
+	 *
+	 * @return {@literal true} for {@link DefaultCurieProvider}, {@literal false} for subclasses by default.
+	 * @since 1.0
+	 */
+	protected boolean isCurieInformationCacheable() {
+		return getClass() == DefaultCurieProvider.class;
+	}
+
+	private Collection<? extends Object> createCurieInformation() {
+
+		return curies.entrySet().stream() //
+				.map(it -> new Curie(it.getKey(), getCurieHref(it.getKey(), it.getValue()))) //
+				.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableCollection));
+	}
+
+	private static String getApplicationUri() {
+		return UriComponentsBuilderFactory.getBaseUri().toString();
 	}
 
 	/**
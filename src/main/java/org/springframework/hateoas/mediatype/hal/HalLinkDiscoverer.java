@@ -57,13 +57,16 @@ public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 
 		Map<String, String> json = (Map<String, String>) element;
 
-		return new Link(json.get("href"), rel) //
-				.withHreflang(json.get("hreflang")) //
-				.withMedia(json.get("media")) //
-				.withTitle(json.get("title")) //
-				.withType(json.get("type")) //
-				.withDeprecation(json.get("deprecation")) //
-				.withProfile(json.get("profile")) //
-				.withName(json.get("name"));
+		return Link.builder() //
+				.href(json.get("href")) //
+				.rel(rel) //
+				.hreflang(json.get("hreflang")) //
+				.media(json.get("media")) //
+				.title(json.get("title")) //
+				.type(json.get("type")) //
+				.deprecation(json.get("deprecation")) //
+				.profile(json.get("profile")) //
+				.name(json.get("name")) //
+				.build();
 	}
 }
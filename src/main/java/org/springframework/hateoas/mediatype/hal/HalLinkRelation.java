@@ -42,7 +42,8 @@ public class HalLinkRelation implements LinkRelation, MessageSourceResolvable {
 
 	public static final HalLinkRelation CURIES = HalLinkRelation.uncuried("curies");
 
-	private static final String RELATION_MESSAGE_TEMPLATE = "_links.%s.title";
+	private static final String RELATION_MESSAGE_PREFIX = "_links.";
+	private static final String RELATION_MESSAGE_SUFFIX = ".title";
 
 	private final String curie;
 	private final @NonNull @Getter String localPart;
@@ -168,7 +169,7 @@ public class HalLinkRelation implements LinkRelation, MessageSourceResolvable {
 	public String[] getCodes() {
 
 		return Stream.of(value(), localPart) //
-				.map(it -> String.format(RELATION_MESSAGE_TEMPLATE, it)) //
+				.map(it -> RELATION_MESSAGE_PREFIX.concat(it).concat(RELATION_MESSAGE_SUFFIX)) //
 				.toArray(String[]::new);
 	}
 
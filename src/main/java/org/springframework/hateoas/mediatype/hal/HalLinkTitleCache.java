@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype.hal;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Cache for the titles of {@link HalLinkRelation}s resolved through a {@link MessageSourceAccessor} per {@link Locale}.
+ * The absence of a title is cached as well, so that a relation without a title costs a single map lookup instead of a
+ * failed message resolution. Titles added to the underlying {@link org.springframework.context.MessageSource} after
+ * they have been looked up for the first time will not be considered.
+ *
+ * @since 1.0
+ */
+class HalLinkTitleCache {
+
+	private final MessageSourceAccessor accessor;
+	private final Map<Locale, Map<HalLinkRelation, Optional<String>>> titles = new ConcurrentReferenceHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Creates a new {@link HalLinkTitleCache} for the given {@link MessageSourceAccessor}.
+	 *
+	 * @param accessor can be {@literal null}.
+	 */
+	HalLinkTitleCache(MessageSourceAccessor accessor) {
+		this.accessor = accessor;
+	}
+
+	/**
+	 * Returns the title for the given {@link HalLinkRelation} in the current {@link Locale}.
+	 *
+	 * @param relation must not be {@literal null}.
+	 * @return the title or {@literal null} if none available.
+	 */
+	String getTitle(HalLinkRelation relation) {
+
+		Assert.notNull(relation, "Link relation must not be null!");
+
+		if (accessor == null) {
+			return null;
+		}
+
+		Map<HalLinkRelation, Optional<String>> cache = titles.computeIfAbsent(LocaleContextHolder.getLocale(),
+				__ -> new ConcurrentReferenceHashMap<>());
+		Optional<String> title = cache.get(relation);
+
+		if (title != null) {
+
+			hits.increment();
+			return title.orElse(null);
+		}
+
+		misses.increment();
+
+		title = Optional.ofNullable(lookupTitle(relation));
+		cache.put(relation, title);
+
+		return title.orElse(null);
+	}
+
+	/**
+	 * Returns the number of title lookups answered from the cache.
+	 *
+	 * @return
+	 */
+	long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of title lookups that required a resolution through the {@link MessageSourceAccessor}.
+	 *
+	 * @return
+	 */
+	long getMissCount() {
+		return misses.sum();
+	}
+
+	private String lookupTitle(HalLinkRelation relation) {
+
+		try {
+			return accessor.getMessage(relation);
+		} catch (NoSuchMessageException o_O) {
+			return null;
+		}
+	}
+}
@@ -15,19 +15,27 @@
  */
 package org.springframework.hateoas.mediatype.hal;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
 import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.client.LinkDiscoverer;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.hateoas.config.HypermediaMappingInformation;
+import org.springframework.hateoas.mediatype.JacksonBinaryFormats;
 import org.springframework.hateoas.server.LinkRelationProvider;
 import org.springframework.http.MediaType;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -38,13 +46,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * @author Oliver Drotbohm
  */
 @Configuration
-public class HalMediaTypeConfiguration implements HypermediaMappingInformation {
+public class HalMediaTypeConfiguration implements HypermediaMappingInformation, ImportAware {
 
 	private final LinkRelationProvider relProvider;
 	private final ObjectProvider<CurieProvider> curieProvider;
 	private final ObjectProvider<HalConfiguration> halConfiguration;
 	private final MessageSourceAccessor messageSourceAccessor;
 
+	private List<MediaType> enabledMediaTypes = Collections.emptyList();
+
 	/**
 	 * @param relProvider
 	 * @param curieProvider
@@ -66,6 +76,16 @@ public class HalMediaTypeConfiguration implements HypermediaMappingInformation {
 		return new HalLinkDiscoverer();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.annotation.ImportAware#setImportMetadata(org.springframework.core.type.AnnotationMetadata)
+	 */
+	@Override
+	public void setImportMetadata(AnnotationMetadata metadata) {
+
+		this.enabledMediaTypes = HypermediaType.getEnabledMediaTypes(metadata);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.config.HypermediaMappingInformation#getMediaTypes()
@@ -75,6 +95,15 @@ public class HalMediaTypeConfiguration implements HypermediaMappingInformation {
 		return HypermediaType.HAL.getMediaTypes();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.config.HypermediaMappingInformation#getBinaryMediaTypes()
+	 */
+	@Override
+	public Map<MediaType, Supplier<JsonFactory>> getBinaryMediaTypes() {
+		return JacksonBinaryFormats.forMediaTypes(enabledMediaTypes, MediaTypes.HAL_CBOR, MediaTypes.HAL_SMILE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.config.HypermediaMappingInformation#configureObjectMapper(com.fasterxml.jackson.databind.ObjectMapper)
@@ -83,16 +83,26 @@ class HalTraversonDefaults implements TraversonDefaults {
 	 */
 	private static final HttpMessageConverter<?> getHalConverter(List<MediaType> halFlavours) {
 
-		ObjectMapper mapper = new ObjectMapper();
-		mapper.registerModule(new Jackson2HalModule());
-		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
 		MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
 
-		converter.setObjectMapper(mapper);
+		converter.setObjectMapper(createHalMapper());
 		converter.setSupportedMediaTypes(halFlavours);
 
 		return converter;
 	}
 
+	/**
+	 * Creates a new {@link ObjectMapper} for the HAL converter of a single Traverson instance, so that changes applied to
+	 * it via the converter don't leak into other instances.
+	 *
+	 * @return
+	 */
+	private static ObjectMapper createHalMapper() {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+		return mapper;
+	}
 }
@@ -21,13 +21,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
@@ -37,7 +38,9 @@ import org.springframework.hateoas.Links;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.mediatype.hal.HalConfiguration.RenderSingleLinks;
 import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.support.HypermediaEvents;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -46,6 +49,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
@@ -75,7 +79,7 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 public class Jackson2HalModule extends SimpleModule {
 
 	private static final long serialVersionUID = 7806951456457932384L;
-	private static final Link CURIES_REQUIRED_DUE_TO_EMBEDS = new Link("__rel__", "¯\\_(ツ)_/¯");
+	private static final String CURIED_EMBEDS_ATTRIBUTE = Jackson2HalModule.class.getName() + ".CURIED_EMBEDS";
 
 	public Jackson2HalModule() {
 
@@ -109,10 +113,12 @@ public class Jackson2HalModule extends SimpleModule {
 		private static final long serialVersionUID = -1844788111509966406L;
 
 		private final BeanProperty property;
+		private final Map<BeanProperty, HalLinkListSerializer> contextuals = new ConcurrentReferenceHashMap<>();
 		private final CurieProvider curieProvider;
 		private final EmbeddedMapper mapper;
-		private final MessageSourceAccessor accessor;
+		private final HalLinkTitleCache titles;
 		private final HalConfiguration halConfiguration;
+		private final OptionalListJackson2Serializer linksSerializer;
 
 		public HalLinkListSerializer(CurieProvider curieProvider, EmbeddedMapper mapper, MessageSourceAccessor accessor,
 				HalConfiguration halConfiguration) {
@@ -121,21 +127,28 @@ public class Jackson2HalModule extends SimpleModule {
 
 		public HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
 				MessageSourceAccessor accessor, HalConfiguration halConfiguration) {
+			this(property, curieProvider, mapper, new HalLinkTitleCache(accessor), halConfiguration);
+		}
+
+		private HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
+				HalLinkTitleCache titles, HalConfiguration halConfiguration) {
 
 			super(TypeFactory.defaultInstance().constructType(Links.class));
 
 			this.property = property;
 			this.curieProvider = curieProvider;
 			this.mapper = mapper;
-			this.accessor = accessor;
+			this.titles = titles;
 			this.halConfiguration = halConfiguration;
+			this.linksSerializer = new OptionalListJackson2Serializer(property, halConfiguration);
 		}
 
 		/**
 		 * Needed to support Jackson
 		 */
 		HalLinkListSerializer() {
-			this(null, null, null, null, new HalConfiguration().withRenderSingleLinks(RenderSingleLinks.AS_SINGLE));
+			this(null, null, null, (MessageSourceAccessor) null,
+					new HalConfiguration().withRenderSingleLinks(RenderSingleLinks.AS_SINGLE));
 		}
 
 		/*
@@ -145,6 +158,8 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public void serialize(Links value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
 
+			Object event = HypermediaEvents.beginHalSerialization();
+
 			// sort links according to their relation
 			Map<LinkRelation, List<Object>> sortedLinks = new LinkedHashMap<>();
 			List<Link> links = new ArrayList<>();
@@ -154,19 +169,16 @@ public class Jackson2HalModule extends SimpleModule {
 			boolean skipCuries = !jgen.getOutputContext().getParent().inRoot();
 
 			Object currentValue = jgen.getCurrentValue();
+			Boolean curiedEmbeds = getCuriedEmbeds(provider, currentValue);
 
-			if (currentValue instanceof CollectionModel) {
-				if (mapper.hasCuriedEmbed((CollectionModel<?>) currentValue)) {
-					curiedLinkPresent = true;
-				}
+			if (curiedEmbeds != null) {
+				curiedLinkPresent = curiedEmbeds;
+			} else if (currentValue instanceof CollectionModel) {
+				curiedLinkPresent = mapper.hasCuriedEmbed((CollectionModel<?>) currentValue);
 			}
 
 			for (Link link : value) {
 
-				if (link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
-					continue;
-				}
-
 				LinkRelation rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(link) : link.getRel();
 
 				if (!link.hasRel(rel)) {
@@ -194,10 +206,14 @@ public class Jackson2HalModule extends SimpleModule {
 			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
 
 			MapSerializer serializer = MapSerializer.construct(Collections.emptySet(), mapType, true, null,
-					provider.findKeySerializer(keyType, null), new OptionalListJackson2Serializer(property, halConfiguration),
+					provider.findKeySerializer(keyType, null), linksSerializer,
 					null);
 
 			serializer.serialize(sortedLinks, jgen, provider);
+
+			if (event != null) {
+				HypermediaEvents.commitHalSerialization(event, "_links", links.size(), getFormatName(jgen));
+			}
 		}
 
 		/**
@@ -210,25 +226,7 @@ public class Jackson2HalModule extends SimpleModule {
 
 			HalLinkRelation rel = HalLinkRelation.of(link.getRel());
 
-			return new HalLink(link, getTitle(rel));
-		}
-
-		/**
-		 * Returns the title for the given local link relation resolved through the configured {@link MessageSourceAccessor}
-		 * .
-		 *
-		 * @param relation must not be {@literal null} or empty.
-		 * @return
-		 */
-		private String getTitle(HalLinkRelation relation) {
-
-			Assert.notNull(relation, "Local relation must not be null or empty!");
-
-			try {
-				return accessor == null ? null : accessor.getMessage(relation);
-			} catch (NoSuchMessageException o_O) {
-				return null;
-			}
+			return new HalLink(link, titles.getTitle(rel));
 		}
 
 		/*
@@ -238,7 +236,10 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
 				throws JsonMappingException {
-			return new HalLinkListSerializer(property, curieProvider, mapper, accessor, halConfiguration);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property,
+							it -> new HalLinkListSerializer(it, curieProvider, mapper, titles, halConfiguration));
 		}
 
 		/*
@@ -300,6 +301,7 @@ public class Jackson2HalModule extends SimpleModule {
 		private static final long serialVersionUID = 8030706944344625390L;
 
 		private final BeanProperty property;
+		private final Map<BeanProperty, HalResourcesSerializer> contextuals = new ConcurrentReferenceHashMap<>();
 		private final EmbeddedMapper embeddedMapper;
 
 		public HalResourcesSerializer(EmbeddedMapper embeddedMapper) {
@@ -323,24 +325,28 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public void serialize(Collection<?> value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
 
+			Object event = HypermediaEvents.beginHalSerialization();
 			Map<HalLinkRelation, Object> embeddeds = embeddedMapper.map(value);
 
 			Object currentValue = jgen.getCurrentValue();
 
 			if (currentValue instanceof RepresentationModel) {
-
-				if (embeddedMapper.hasCuriedEmbed(value)) {
-					((RepresentationModel<?>) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
-				}
+				setCuriedEmbeds(provider, currentValue, embeddeds.keySet().stream().anyMatch(HalLinkRelation::isCuried));
 			}
 
 			provider.findValueSerializer(Map.class, property).serialize(embeddeds, jgen, provider);
+
+			if (event != null) {
+				HypermediaEvents.commitHalSerialization(event, "_embedded", value.size(), getFormatName(jgen));
+			}
 		}
 
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new HalResourcesSerializer(property, embeddedMapper);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, it -> new HalResourcesSerializer(it, embeddedMapper));
 		}
 
 		@Override
@@ -382,6 +388,8 @@ public class Jackson2HalModule extends SimpleModule {
 		private static final long serialVersionUID = 3700806118177419817L;
 
 		private final BeanProperty property;
+		private final Map<BeanProperty, OptionalListJackson2Serializer> contextuals = //
+				new ConcurrentReferenceHashMap<>();
 		private final Map<Class<?>, JsonSerializer<Object>> serializers;
 		private final HalConfiguration halConfiguration;
 
@@ -395,7 +403,7 @@ public class Jackson2HalModule extends SimpleModule {
 			super(TypeFactory.defaultInstance().constructType(List.class));
 
 			this.property = property;
-			this.serializers = new HashMap<>();
+			this.serializers = new ConcurrentHashMap<>();
 			this.halConfiguration = halConfiguration;
 		}
 
@@ -487,7 +495,9 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
 				throws JsonMappingException {
-			return new OptionalListJackson2Serializer(property, halConfiguration);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, it -> new OptionalListJackson2Serializer(it, halConfiguration));
 		}
 
 		private void serializeContents(Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
@@ -502,7 +512,7 @@ public class Jackson2HalModule extends SimpleModule {
 
 			if (serializer == null) {
 				serializer = provider.findValueSerializer(type, property);
-				serializers.put(type, serializer);
+				serializers.putIfAbsent(type, serializer);
 			}
 
 			return serializer;
@@ -544,7 +554,6 @@ public class Jackson2HalModule extends SimpleModule {
 
 			List<Link> result = new ArrayList<>();
 			String relation;
-			Link link;
 
 			// links is an object, so we parse till we find its end.
 			while (!JsonToken.END_OBJECT.equals(jp.nextToken())) {
@@ -558,19 +567,65 @@ public class Jackson2HalModule extends SimpleModule {
 
 				if (JsonToken.START_ARRAY.equals(jp.nextToken())) {
 					while (!JsonToken.END_ARRAY.equals(jp.nextToken())) {
-						link = jp.readValueAs(Link.class);
-						result.add(new Link(link.getHref(), relation).withHreflang(link.getHreflang()).withTitle(link.getTitle())
-								.withType(link.getType()).withDeprecation(link.getDeprecation()));
+						result.add(readLink(jp, relation));
 					}
 				} else {
-					link = jp.readValueAs(Link.class);
-					result.add(new Link(link.getHref(), relation).withHreflang(link.getHreflang()).withTitle(link.getTitle())
-							.withType(link.getType()).withDeprecation(link.getDeprecation()));
+					result.add(readLink(jp, relation));
 				}
 			}
 
 			return result;
 		}
+
+		/**
+		 * Reads the {@link Link} the given {@link JsonParser} currently points to, directly into a {@link Link.Builder} so
+		 * that no intermediate {@link Link} instances are created.
+		 *
+		 * @param jp must not be {@literal null}.
+		 * @param relation must not be {@literal null} or empty.
+		 * @return
+		 * @throws IOException
+		 */
+		private static Link readLink(JsonParser jp, String relation) throws IOException {
+
+			Link.Builder builder = Link.builder().rel(relation);
+
+			if (JsonToken.VALUE_STRING.equals(jp.getCurrentToken())) {
+				return builder.href(jp.getText()).build();
+			}
+
+			if (!JsonToken.START_OBJECT.equals(jp.getCurrentToken())) {
+				throw new JsonParseException(jp, "Expected link object");
+			}
+
+			while (JsonToken.FIELD_NAME.equals(jp.nextToken())) {
+
+				String field = jp.getCurrentName();
+				jp.nextToken();
+
+				switch (field) {
+					case "href":
+						builder.href(jp.getValueAsString());
+						break;
+					case "hreflang":
+						builder.hreflang(jp.getValueAsString());
+						break;
+					case "title":
+						builder.title(jp.getValueAsString());
+						break;
+					case "type":
+						builder.type(jp.getValueAsString());
+						break;
+					case "deprecation":
+						builder.deprecation(jp.getValueAsString());
+						break;
+					default:
+						jp.skipChildren();
+				}
+			}
+
+			return builder.build();
+		}
 	}
 
 	public static class HalResourcesDeserializer extends ContainerDeserializerBase<List<Object>>
@@ -823,6 +878,56 @@ public class Jackson2HalModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Records whether the embeds of the given {@link RepresentationModel} are curied for the current serialization run, so
+	 * that the {@link HalLinkListSerializer} rendering the model's links afterwards can add the curies without the model
+	 * itself having to be changed.
+	 *
+	 * @param provider must not be {@literal null}.
+	 * @param model must not be {@literal null}.
+	 * @param curied
+	 */
+	@SuppressWarnings("unchecked")
+	private static void setCuriedEmbeds(SerializerProvider provider, Object model, boolean curied) {
+
+		Map<Object, Boolean> curiedEmbeds = (Map<Object, Boolean>) provider.getAttribute(CURIED_EMBEDS_ATTRIBUTE);
+
+		if (curiedEmbeds == null) {
+			curiedEmbeds = new IdentityHashMap<>();
+			provider.setAttribute(CURIED_EMBEDS_ATTRIBUTE, curiedEmbeds);
+		}
+
+		curiedEmbeds.put(model, curied);
+	}
+
+	/**
+	 * Returns whether the embeds of the given model were found to be curied in the current serialization run.
+	 *
+	 * @param provider must not be {@literal null}.
+	 * @param model can be {@literal null}.
+	 * @return {@literal null} if the model's embeds haven't been rendered yet.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Boolean getCuriedEmbeds(SerializerProvider provider, Object model) {
+
+		Map<Object, Boolean> curiedEmbeds = (Map<Object, Boolean>) provider.getAttribute(CURIED_EMBEDS_ATTRIBUTE);
+
+		return curiedEmbeds == null || model == null ? null : curiedEmbeds.get(model);
+	}
+
+	/**
+	 * Returns the name of the data format the given {@link JsonGenerator} writes, e.g. {@code JSON} or {@code CBOR}.
+	 *
+	 * @param generator must not be {@literal null}.
+	 * @return {@literal null} if the format can't be determined.
+	 */
+	private static String getFormatName(JsonGenerator generator) {
+
+		ObjectCodec codec = generator.getCodec();
+
+		return codec instanceof ObjectMapper ? ((ObjectMapper) codec).getFactory().getFormatName() : null;
+	}
+
 	/**
 	 * Helper to easily map embedded resources and find out whether they were curied.
 	 *
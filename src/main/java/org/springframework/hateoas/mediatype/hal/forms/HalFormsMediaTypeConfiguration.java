@@ -17,19 +17,27 @@ package org.springframework.hateoas.mediatype.hal.forms;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
 import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.hateoas.mediatype.hal.CurieProvider;
 import org.springframework.hateoas.client.LinkDiscoverer;
 import org.springframework.hateoas.config.HypermediaMappingInformation;
+import org.springframework.hateoas.mediatype.JacksonBinaryFormats;
 import org.springframework.hateoas.server.core.DelegatingLinkRelationProvider;
 import org.springframework.http.MediaType;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -41,18 +49,30 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 @Configuration
 @RequiredArgsConstructor
-class HalFormsMediaTypeConfiguration implements HypermediaMappingInformation {
+class HalFormsMediaTypeConfiguration implements HypermediaMappingInformation, ImportAware {
 
 	private final DelegatingLinkRelationProvider relProvider;
 	private final ObjectProvider<CurieProvider> curieProvider;
 	private final ObjectProvider<HalFormsConfiguration> halFormsConfiguration;
 	private final MessageSourceAccessor messageSourceAccessor;
 
+	private List<MediaType> enabledMediaTypes = Collections.emptyList();
+
 	@Bean
 	LinkDiscoverer halFormsLinkDiscoverer() {
 		return new HalFormsLinkDiscoverer();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.annotation.ImportAware#setImportMetadata(org.springframework.core.type.AnnotationMetadata)
+	 */
+	@Override
+	public void setImportMetadata(AnnotationMetadata metadata) {
+
+		this.enabledMediaTypes = HypermediaType.getEnabledMediaTypes(metadata);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.config.HypermediaMappingInformation#getMediaTypes()
@@ -62,6 +82,15 @@ class HalFormsMediaTypeConfiguration implements HypermediaMappingInformation {
 		return HypermediaType.HAL_FORMS.getMediaTypes();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.config.HypermediaMappingInformation#getBinaryMediaTypes()
+	 */
+	@Override
+	public Map<MediaType, Supplier<JsonFactory>> getBinaryMediaTypes() {
+		return JacksonBinaryFormats.forMediaTypes(enabledMediaTypes, MediaTypes.HAL_FORMS_CBOR, MediaTypes.HAL_FORMS_SMILE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.config.HypermediaMappingInformation#configureObjectMapper(com.fasterxml.jackson.databind.ObjectMapper)
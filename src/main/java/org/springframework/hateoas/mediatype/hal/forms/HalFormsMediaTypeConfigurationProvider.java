@@ -44,6 +44,8 @@ class HalFormsMediaTypeConfigurationProvider implements MediaTypeConfigurationPr
 	 */
 	@Override
 	public boolean supportsAny(Collection<MediaType> mediaTypes) {
-		return mediaTypes.contains(MediaTypes.HAL_FORMS_JSON);
+		return mediaTypes.contains(MediaTypes.HAL_FORMS_JSON) //
+				|| mediaTypes.contains(MediaTypes.HAL_FORMS_CBOR) //
+				|| mediaTypes.contains(MediaTypes.HAL_FORMS_SMILE);
 	}
 }
@@ -32,6 +32,7 @@ import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.mediatype.hal.HalLinkRelation;
 import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
 import org.springframework.http.HttpMethod;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanProperty;
@@ -59,6 +60,7 @@ class HalFormsSerializers {
 		private static final long serialVersionUID = -7912243216469101379L;
 
 		private final BeanProperty property;
+		private final Map<BeanProperty, HalFormsResourceSerializer> contextuals = new ConcurrentReferenceHashMap<>();
 
 		HalFormsResourceSerializer(BeanProperty property) {
 
@@ -104,7 +106,9 @@ class HalFormsSerializers {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new HalFormsResourceSerializer(property);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, HalFormsResourceSerializer::new);
 		}
 	}
 
@@ -117,6 +121,7 @@ class HalFormsSerializers {
 		private static final long serialVersionUID = -3601146866067500734L;
 
 		private final BeanProperty property;
+		private final Map<BeanProperty, HalFormsResourcesSerializer> contextuals = new ConcurrentReferenceHashMap<>();
 		private final Jackson2HalModule.EmbeddedMapper embeddedMapper;
 
 		HalFormsResourcesSerializer(BeanProperty property, Jackson2HalModule.EmbeddedMapper embeddedMapper) {
@@ -181,7 +186,9 @@ class HalFormsSerializers {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new HalFormsResourcesSerializer(property, embeddedMapper);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, it -> new HalFormsResourcesSerializer(it, embeddedMapper));
 		}
 	}
 
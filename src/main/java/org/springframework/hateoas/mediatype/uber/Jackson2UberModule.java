@@ -16,7 +16,6 @@
 package org.springframework.hateoas.mediatype.uber;
 
 import static org.springframework.hateoas.mediatype.JacksonHelper.*;
-import static org.springframework.hateoas.mediatype.uber.UberData.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -35,6 +34,7 @@ import org.springframework.hateoas.PagedModel.PageMetadata;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.mediatype.JacksonHelper;
 import org.springframework.hateoas.mediatype.PropertyUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -127,6 +127,8 @@ public class Jackson2UberModule extends SimpleModule {
 
 		private static final long serialVersionUID = -572866287910993300L;
 		private final BeanProperty property;
+		private final Map<BeanProperty, UberRepresentationModelSerializer> contextuals = //
+				new ConcurrentReferenceHashMap<>();
 
 		UberRepresentationModelSerializer(BeanProperty property) {
 
@@ -142,14 +144,7 @@ public class Jackson2UberModule extends SimpleModule {
 		public void serialize(RepresentationModel<?> value, JsonGenerator gen, SerializerProvider provider)
 				throws IOException {
 
-			UberDocument doc = new UberDocument() //
-					.withUber(new Uber() //
-							.withVersion("1.0") //
-							.withData(extractLinksAndContent(value)));
-
-			provider //
-					.findValueSerializer(UberDocument.class, property) //
-					.serialize(doc, gen, provider);
+			UberDocumentWriter.writeDocument(value, gen, provider);
 		}
 
 		@Override
@@ -175,7 +170,9 @@ public class Jackson2UberModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new UberRepresentationModelSerializer(property);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, UberRepresentationModelSerializer::new);
 		}
 	}
 
@@ -188,6 +185,7 @@ public class Jackson2UberModule extends SimpleModule {
 		private static final long serialVersionUID = -5538560800604582741L;
 
 		private final BeanProperty property;
+		private final Map<BeanProperty, UberEntityModelSerializer> contextuals = new ConcurrentReferenceHashMap<>();
 
 		UberEntityModelSerializer(BeanProperty property) {
 
@@ -203,13 +201,7 @@ public class Jackson2UberModule extends SimpleModule {
 		public void serialize(EntityModel<?> value, JsonGenerator gen, SerializerProvider provider)
 				throws IOException {
 
-			UberDocument doc = new UberDocument().withUber(new Uber() //
-					.withVersion("1.0") //
-					.withData(extractLinksAndContent(value)));
-
-			provider //
-					.findValueSerializer(UberDocument.class, property) //
-					.serialize(doc, gen, provider);
+			UberDocumentWriter.writeDocument(value, gen, provider);
 		}
 
 		@Override
@@ -235,7 +227,9 @@ public class Jackson2UberModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new UberEntityModelSerializer(property);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, UberEntityModelSerializer::new);
 		}
 	}
 
@@ -248,6 +242,7 @@ public class Jackson2UberModule extends SimpleModule {
 		private static final long serialVersionUID = 3422019794262694127L;
 
 		private BeanProperty property;
+		private final Map<BeanProperty, UberCollectionModelSerializer> contextuals = new ConcurrentReferenceHashMap<>();
 
 		UberCollectionModelSerializer(BeanProperty property) {
 
@@ -267,14 +262,7 @@ public class Jackson2UberModule extends SimpleModule {
 		public void serialize(CollectionModel<?> value, JsonGenerator gen, SerializerProvider provider)
 				throws IOException {
 
-			UberDocument doc = new UberDocument() //
-					.withUber(new Uber() //
-							.withVersion("1.0") //
-							.withData(extractLinksAndContent(value)));
-
-			provider //
-					.findValueSerializer(UberDocument.class, property) //
-					.serialize(doc, gen, provider);
+			UberDocumentWriter.writeDocument(value, gen, provider);
 		}
 
 		@Override
@@ -300,7 +288,9 @@ public class Jackson2UberModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new UberCollectionModelSerializer(property);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, UberCollectionModelSerializer::new);
 		}
 	}
 
@@ -313,6 +303,7 @@ public class Jackson2UberModule extends SimpleModule {
 		private static final long serialVersionUID = -7892297813593085984L;
 
 		private BeanProperty property;
+		private final Map<BeanProperty, UberPagedModelSerializer> contextuals = new ConcurrentReferenceHashMap<>();
 
 		UberPagedModelSerializer(BeanProperty property) {
 
@@ -332,14 +323,7 @@ public class Jackson2UberModule extends SimpleModule {
 		public void serialize(PagedModel<?> value, JsonGenerator gen, SerializerProvider provider)
 				throws IOException {
 
-			UberDocument doc = new UberDocument() //
-					.withUber(new Uber() //
-							.withVersion("1.0") //
-							.withData(extractLinksAndContent(value)));
-
-			provider //
-					.findValueSerializer(UberDocument.class, property) //
-					.serialize(doc, gen, provider);
+			UberDocumentWriter.writeDocument(value, gen, provider);
 		}
 
 		/*
@@ -385,7 +369,9 @@ public class Jackson2UberModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 				throws JsonMappingException {
-			return new UberPagedModelSerializer(property);
+			return property == this.property //
+					? this //
+					: contextuals.computeIfAbsent(property, UberPagedModelSerializer::new);
 		}
 	}
 
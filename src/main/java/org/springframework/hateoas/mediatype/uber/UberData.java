@@ -39,9 +39,7 @@ import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
-import org.springframework.hateoas.mediatype.PropertyUtils;
 import org.springframework.http.HttpMethod;
-import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -141,77 +139,14 @@ class UberData {
 	/**
 	 * Simple scalar types that can be encoded by value, not type.
 	 */
-	private final static HashSet<Class<?>> PRIMITIVE_TYPES = new HashSet<>(Arrays.asList(String.class));
+	static final HashSet<Class<?>> PRIMITIVE_TYPES = new HashSet<>(Arrays.asList(String.class));
 
 	/**
 	 * Set of all Spring HATEOAS resource types.
 	 */
-	private static final HashSet<Class<?>> RESOURCE_TYPES = new HashSet<>(Arrays.asList(RepresentationModel.class,
+	static final HashSet<Class<?>> RESOURCE_TYPES = new HashSet<>(Arrays.asList(RepresentationModel.class,
 			EntityModel.class, CollectionModel.class, PagedModel.class));
 
-	/**
-	 * Convert a {@link RepresentationModel} into a list of {@link UberData}s, containing links and content.
-	 *
-	 * @param resource
-	 * @return
-	 */
-	static List<UberData> extractLinksAndContent(RepresentationModel<?> resource) {
-
-		List<UberData> data = extractLinks(resource);
-
-		extractContent(resource).ifPresent(data::add);
-
-		return data;
-	}
-
-	/**
-	 * Convert a {@link EntityModel} into a list of {@link UberData}s, containing links and content.
-	 *
-	 * @param resource
-	 * @return
-	 */
-	static List<UberData> extractLinksAndContent(EntityModel<?> resource) {
-
-		List<UberData> data = extractLinks(resource);
-
-		extractContent(resource.getContent()).ifPresent(data::add);
-
-		return data;
-	}
-
-	/**
-	 * Convert {@link CollectionModel} into a list of {@link UberData}, with each item nested in a
-	 * sub-UberData.
-	 *
-	 * @param resources
-	 * @return
-	 */
-	static List<UberData> extractLinksAndContent(CollectionModel<?> resources) {
-
-		List<UberData> data = extractLinks(resources);
-
-		data.addAll(resources.getContent().stream().map(UberData::doExtractLinksAndContent)
-				.map(uberData -> new UberData().withData(uberData)).collect(Collectors.toList()));
-
-		return data;
-	}
-
-	static List<UberData> extractLinksAndContent(PagedModel<?> resources) {
-
-		List<UberData> collectionOfResources = extractLinksAndContent((CollectionModel<?>) resources);
-
-		if (resources.getMetadata() != null) {
-
-			collectionOfResources.add(new UberData().withName("page")
-					.withData(Arrays.asList(new UberData().withName("number").withValue(resources.getMetadata().getNumber()),
-							new UberData().withName("size").withValue(resources.getMetadata().getSize()),
-							new UberData().withName("totalElements").withValue(resources.getMetadata().getTotalElements()),
-							new UberData().withName("totalPages").withValue(resources.getMetadata().getTotalPages()))));
-		}
-
-		return collectionOfResources;
-	}
-
 	/**
 	 * Convert a {@link List} of {@link Link}s into a list of {@link UberData}.
 	 *
@@ -233,7 +168,7 @@ class UberData {
 	 * @param resource
 	 * @return
 	 */
-	private static List<UberData> extractLinks(RepresentationModel<?> resource) {
+	static List<UberData> extractLinks(RepresentationModel<?> resource) {
 
 		List<UberData> data = new ArrayList<>();
 
@@ -249,37 +184,6 @@ class UberData {
 		return data;
 	}
 
-	/**
-	 * Convert an object's properties into an {@link UberData}.
-	 *
-	 * @param content
-	 * @return
-	 */
-	private static Optional<UberData> extractContent(Object content) {
-
-		return Optional.of(content) //
-				.filter(it -> !RESOURCE_TYPES.contains(content.getClass())) //
-				.map(it -> new UberData() //
-						.withName(StringUtils.uncapitalize(it.getClass().getSimpleName())) //
-						.withData(extractProperties(it)));
-	}
-
-	/**
-	 * Extract links and content from an object of any type.
-	 */
-	private static List<UberData> doExtractLinksAndContent(Object item) {
-
-		if (item instanceof EntityModel) {
-			return extractLinksAndContent((EntityModel<?>) item);
-		}
-
-		if (item instanceof RepresentationModel) {
-			return extractLinksAndContent((RepresentationModel<?>) item);
-		}
-
-		return extractLinksAndContent(new EntityModel<>(item));
-	}
-
 	/**
 	 * Turn a {@list List} of {@link Link}s into a {@link Map}, where you can see ALL the rels of a given link.
 	 *
@@ -371,22 +275,6 @@ class UberData {
 				.collect(Collectors.toList());
 	}
 
-	/**
-	 * Transform the payload of a {@link EntityModel} into {@link UberData}.
-	 *
-	 * @param obj
-	 * @return
-	 */
-	private static List<UberData> extractProperties(Object obj) {
-
-		if (PRIMITIVE_TYPES.contains(obj.getClass())) {
-			return Collections.singletonList(new UberData().withValue(obj));
-		}
-
-		return PropertyUtils.findProperties(obj).entrySet().stream()
-				.map(entry -> new UberData().withName(entry.getKey()).withValue(entry.getValue())).collect(Collectors.toList());
-	}
-
 	/**
 	 * Holds both a {@link Link} and related {@literal rels}.
 	 */
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype.uber;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.mediatype.PropertyUtils;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Writes {@link RepresentationModel}s as {@literal UBER+JSON} documents directly to a {@link JsonGenerator} without
+ * creating an intermediate {@link UberDocument} with an {@link UberData} tree. Only {@link Link}s carrying affordances
+ * are still translated into {@link UberData} first, as the affordance based entries need to be merged with the
+ * declared links.
+ *
+ * @since 1.0
+ * @see UberData
+ */
+final class UberDocumentWriter {
+
+	private UberDocumentWriter() {}
+
+	/**
+	 * Writes the given {@link RepresentationModel} as {@literal UBER+JSON} document. Considers the special semantics of
+	 * {@link EntityModel}s, {@link CollectionModel}s and {@link PagedModel}s.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @param gen must not be {@literal null}.
+	 * @param provider must not be {@literal null}.
+	 * @throws IOException
+	 */
+	static void writeDocument(RepresentationModel<?> model, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+
+		gen.writeStartObject();
+		gen.writeObjectFieldStart("uber");
+		gen.writeStringField("version", "1.0");
+		gen.writeArrayFieldStart("data");
+
+		if (model instanceof CollectionModel) {
+			writeCollectionModel((CollectionModel<?>) model, gen, provider);
+		} else {
+			writeLinksAndContent(model, gen, provider);
+		}
+
+		gen.writeEndArray();
+		gen.writeEndObject();
+		gen.writeEndObject();
+	}
+
+	private static void writeCollectionModel(CollectionModel<?> model, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+
+		writeLinks(model, gen, provider);
+
+		for (Object item : model.getContent()) {
+
+			gen.writeStartObject();
+			gen.writeArrayFieldStart("data");
+
+			if (item instanceof RepresentationModel) {
+				writeLinksAndContent((RepresentationModel<?>) item, gen, provider);
+			} else {
+				writeContent(item, gen, provider);
+			}
+
+			gen.writeEndArray();
+			gen.writeEndObject();
+		}
+
+		if (model instanceof PagedModel) {
+			writePageMetadata(((PagedModel<?>) model).getMetadata(), gen);
+		}
+	}
+
+	private static void writeLinksAndContent(RepresentationModel<?> model, JsonGenerator gen,
+			SerializerProvider provider) throws IOException {
+
+		writeLinks(model, gen, provider);
+		writeContent(model instanceof EntityModel ? ((EntityModel<?>) model).getContent() : model, gen, provider);
+	}
+
+	private static void writeLinks(RepresentationModel<?> model, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+
+		for (Link link : model.getLinks()) {
+
+			if (!link.getAffordances().isEmpty()) {
+
+				for (UberData data : UberData.extractLinks(model)) {
+					writeData(data, gen, provider);
+				}
+
+				return;
+			}
+		}
+
+		Map<String, List<LinkRelation>> relsByHref = new LinkedHashMap<>();
+
+		for (Link link : model.getLinks()) {
+			relsByHref.computeIfAbsent(link.getHref(), __ -> new ArrayList<>()).add(link.getRel());
+		}
+
+		for (Entry<String, List<LinkRelation>> entry : relsByHref.entrySet()) {
+
+			String href = entry.getKey();
+
+			gen.writeStartObject();
+			writeRels(entry.getValue(), gen);
+			gen.writeStringField("url", href);
+
+			if (isTemplated(href)) {
+				gen.writeBooleanField("templated", true);
+			}
+
+			gen.writeEndObject();
+		}
+	}
+
+	/**
+	 * Writes the properties of the given content as named data entry unless it's one of the Spring HATEOAS resource
+	 * types.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param gen
+	 * @param provider
+	 * @throws IOException
+	 */
+	private static void writeContent(Object content, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+
+		if (UberData.RESOURCE_TYPES.contains(content.getClass())) {
+			return;
+		}
+
+		gen.writeStartObject();
+		gen.writeStringField("name", StringUtils.uncapitalize(content.getClass().getSimpleName()));
+		gen.writeArrayFieldStart("data");
+
+		if (UberData.PRIMITIVE_TYPES.contains(content.getClass())) {
+
+			gen.writeStartObject();
+			provider.defaultSerializeField("value", content, gen);
+			gen.writeEndObject();
+
+		} else {
+
+			for (Entry<String, Object> property : PropertyUtils.findProperties(content).entrySet()) {
+
+				gen.writeStartObject();
+				gen.writeStringField("name", property.getKey());
+
+				if (property.getValue() != null) {
+					provider.defaultSerializeField("value", property.getValue(), gen);
+				}
+
+				gen.writeEndObject();
+			}
+		}
+
+		gen.writeEndArray();
+		gen.writeEndObject();
+	}
+
+	private static void writePageMetadata(PageMetadata metadata, JsonGenerator gen) throws IOException {
+
+		if (metadata == null) {
+			return;
+		}
+
+		gen.writeStartObject();
+		gen.writeStringField("name", "page");
+		gen.writeArrayFieldStart("data");
+
+		writeNamedNumber("number", metadata.getNumber(), gen);
+		writeNamedNumber("size", metadata.getSize(), gen);
+		writeNamedNumber("totalElements", metadata.getTotalElements(), gen);
+		writeNamedNumber("totalPages", metadata.getTotalPages(), gen);
+
+		gen.writeEndArray();
+		gen.writeEndObject();
+	}
+
+	private static void writeNamedNumber(String name, long value, JsonGenerator gen) throws IOException {
+
+		gen.writeStartObject();
+		gen.writeStringField("name", name);
+		gen.writeNumberField("value", value);
+		gen.writeEndObject();
+	}
+
+	/**
+	 * Writes the given {@link UberData} in the same property order Jackson uses when serializing it as bean.
+	 *
+	 * @param data must not be {@literal null}.
+	 * @param gen
+	 * @param provider
+	 * @throws IOException
+	 */
+	private static void writeData(UberData data, JsonGenerator gen, SerializerProvider provider) throws IOException {
+
+		gen.writeStartObject();
+
+		writeStringFieldIfPresent("id", data.getId(), gen);
+		writeStringFieldIfPresent("name", data.getName(), gen);
+		writeStringFieldIfPresent("label", data.getLabel(), gen);
+
+		if (data.getRel() != null) {
+			writeRels(data.getRel(), gen);
+		}
+
+		writeStringFieldIfPresent("url", data.getUrl(), gen);
+
+		if (data.getAction() != null) {
+			gen.writeStringField("action", data.getAction().toString());
+		}
+
+		if (data.isTransclude() != null) {
+			gen.writeBooleanField("transclude", true);
+		}
+
+		writeStringFieldIfPresent("model", data.getModel(), gen);
+
+		if (data.getSending() != null) {
+			provider.defaultSerializeField("sending", data.getSending(), gen);
+		}
+
+		if (data.getAccepting() != null) {
+			provider.defaultSerializeField("accepting", data.getAccepting(), gen);
+		}
+
+		if (data.getValue() != null) {
+			provider.defaultSerializeField("value", data.getValue(), gen);
+		}
+
+		if (data.getData() != null) {
+
+			gen.writeArrayFieldStart("data");
+
+			for (UberData nested : data.getData()) {
+				writeData(nested, gen, provider);
+			}
+
+			gen.writeEndArray();
+		}
+
+		if (data.isTemplated() != null) {
+			gen.writeBooleanField("templated", true);
+		}
+
+		gen.writeEndObject();
+	}
+
+	private static void writeRels(List<LinkRelation> rels, JsonGenerator gen) throws IOException {
+
+		gen.writeArrayFieldStart("rel");
+
+		for (LinkRelation rel : rels) {
+			gen.writeString(rel.value());
+		}
+
+		gen.writeEndArray();
+	}
+
+	private static void writeStringFieldIfPresent(String name, String value, JsonGenerator gen) throws IOException {
+
+		if (value != null) {
+			gen.writeStringField(name, value);
+		}
+	}
+
+	private static boolean isTemplated(String href) {
+		return href != null && href.contains("{?");
+	}
+}
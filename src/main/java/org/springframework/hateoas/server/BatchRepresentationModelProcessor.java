@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * {@link RepresentationModelProcessor} that is able to process multiple representation models at once. When processing
+ * the elements of a {@link CollectionModel}, all elements the processor applies to are handed to
+ * {@link #processAll(List)} in a single invocation, which allows implementations to look up additional data needed to
+ * process the models in bulk. Individual models are handed to {@link #processAll(List)} as single element list by
+ * default.
+ *
+ * @see RepresentationModelProcessor
+ * @since 1.0
+ */
+public interface BatchRepresentationModelProcessor<T extends RepresentationModel<?>>
+		extends RepresentationModelProcessor<T> {
+
+	/**
+	 * Processes all of the given representation models.
+	 *
+	 * @param resources will never be {@literal null} or empty.
+	 * @return the processed resources in the order of the given ones, must not be {@literal null} and contain as many
+	 *         elements as the given {@link List}.
+	 */
+	List<T> processAll(List<T> resources);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.RepresentationModelProcessor#process(org.springframework.hateoas.RepresentationModel)
+	 */
+	@Override
+	default T process(T resource) {
+		return processAll(Collections.singletonList(resource)).get(0);
+	}
+}
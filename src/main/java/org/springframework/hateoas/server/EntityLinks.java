@@ -15,6 +15,8 @@
  */
 package org.springframework.hateoas.server;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import org.springframework.hateoas.IanaLinkRelations;
@@ -120,6 +122,30 @@ public interface EntityLinks extends Plugin<Class<?>> {
 		return linkToItemResource(entity.getClass(), identifierExtractor.apply(entity));
 	}
 
+	/**
+	 * Creates {@link Link}s pointing to the item resources backing the given entity type and ids. Equivalent to calling
+	 * {@link #linkToItemResource(Class, Object)} for each of the given ids but implementations might resolve the parts
+	 * of the URIs shared by all links only once.
+	 *
+	 * @param type the entity type to point to, must not be {@literal null}.
+	 * @param ids the identifiers of the entities of the given type, must not be {@literal null}.
+	 * @return the {@link Link}s in the order of the given ids. Will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given type is unknown the entity links infrastructure.
+	 * @since 1.0
+	 */
+	default List<Link> linksToItemResources(Class<?> type, Iterable<?> ids) {
+
+		Assert.notNull(ids, "Identifiers must not be null!");
+
+		List<Link> links = new ArrayList<>();
+
+		for (Object id : ids) {
+			links.add(linkToItemResource(type, id));
+		}
+
+		return links;
+	}
+
 	/**
 	 * Creates a {@link TypedEntityLinks} instance using the given identifier extractor function.
 	 *
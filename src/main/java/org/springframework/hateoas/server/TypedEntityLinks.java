@@ -16,9 +16,12 @@
 package org.springframework.hateoas.server;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import org.springframework.hateoas.IanaLinkRelations;
@@ -35,7 +38,7 @@ import org.springframework.util.Assert;
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class TypedEntityLinks<T> {
 
-	private final @NonNull Function<T, ? extends Object> identifierExtractor;
+	private final @NonNull @Getter(AccessLevel.PACKAGE) Function<T, ? extends Object> identifierExtractor;
 	private final @NonNull EntityLinks entityLinks;
 
 	/**
@@ -95,5 +98,29 @@ public class TypedEntityLinks<T> {
 		public Link linkToCollectionResource() {
 			return delegate.linkToCollectionResource(type);
 		}
+
+		/**
+		 * Creates {@link Link}s pointing to the item resources backing the given entities of the configured type. The
+		 * relation type of the links will be determined by the implementation class and should be defaulted to
+		 * {@link IanaLinkRelations#SELF}.
+		 *
+		 * @param entities the entities to point to, must not be {@literal null}.
+		 * @return the {@link Link}s in the order of the given entities. Will never be {@literal null}.
+		 * @throws IllegalArgumentException in case the given type is unknown the entity links infrastructure.
+		 * @see EntityLinks#linksToItemResources(Class, Iterable)
+		 */
+		public List<Link> linksToItemResources(Iterable<? extends T> entities) {
+
+			Assert.notNull(entities, "Entities must not be null!");
+
+			Function<T, ? extends Object> identifierExtractor = getIdentifierExtractor();
+			List<Object> ids = new ArrayList<>();
+
+			for (T entity : entities) {
+				ids.add(identifierExtractor.apply(entity));
+			}
+
+			return delegate.linksToItemResources(type, ids);
+		}
 	}
 }
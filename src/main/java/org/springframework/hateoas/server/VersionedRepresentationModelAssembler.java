@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server;
+
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * {@link RepresentationModelAssembler} that can expose a cheap version key for an entity, i.e. a value that changes
+ * whenever the {@link RepresentationModel} assembled for it would change (a version column, a last modified timestamp
+ * etc.). Allows controllers to answer conditional requests before assembling and rendering the model:
+ *
+ * <pre>
+ * if (eTagGenerator.checkNotModified(webRequest, assembler.getVersion(entity))) {
+ * 	return null;
+ * }
+ *
+ * return assembler.toModel(entity);
+ * </pre>
+ *
+ * The server doesn't call {@link #getVersion(Object)} on its own. Unless controllers do so, {@literal ETag}s are
+ * computed by digesting the rendered representation.
+ *
+ * @see org.springframework.hateoas.server.core.ETagGenerator#checkNotModified(org.springframework.web.context.request.WebRequest, Object)
+ * @since 1.0
+ */
+public interface VersionedRepresentationModelAssembler<T, D extends RepresentationModel<?>>
+		extends RepresentationModelAssembler<T, D> {
+
+	/**
+	 * Returns the version key of the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	Object getVersion(T entity);
+}
@@ -15,18 +15,26 @@
  */
 package org.springframework.hateoas.server.core;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.springframework.hateoas.support.HypermediaMetrics;
+import org.springframework.hateoas.support.HypermediaMetricsHolder;
 import org.springframework.http.HttpMethod;
-import org.springframework.util.ConcurrentReferenceHashMap;
-import org.springframework.util.StringUtils;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriTemplate;
 
 /**
- * Caching adapter of {@link MappingDiscoverer}.
+ * Caching adapter of {@link MappingDiscoverer}. The discovered information is attached to the inspected {@link Class}
+ * via a {@link ClassValue} and held per {@link Method} from there, so that lookups don't need to create any keys and
+ * the cached entries go away with the class they were discovered for.
  *
  * @author Michal Stochmialek
  * @author Oliver Drotbohm
@@ -34,11 +42,41 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor(staticName = "of")
 public class CachingMappingDiscoverer implements MappingDiscoverer {
 
-	private static final Map<String, String> MAPPINGS = new ConcurrentReferenceHashMap<>();
-	private static final Map<String, Collection<HttpMethod>> METHODS = new ConcurrentReferenceHashMap<>();
+	private static final ClassValue<TypeMappings> MAPPINGS = new ClassValue<TypeMappings>() {
+
+		@Override
+		protected TypeMappings computeValue(Class<?> type) {
+			return new TypeMappings();
+		}
+	};
+
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
 
 	private final MappingDiscoverer delegate;
 
+	/**
+	 * Returns the number of {@link MappingInfo} lookups answered from the cache. Only counted
+	 * while {@link HypermediaMetrics} are enabled.
+	 *
+	 * @return
+	 * @since 1.0
+	 */
+	public static long getHitCount() {
+		return HITS.sum();
+	}
+
+	/**
+	 * Returns the number of {@link MappingInfo} lookups that required the delegate {@link MappingDiscoverer} to be
+	 * consulted. Only counted while {@link HypermediaMetrics} are enabled.
+	 *
+	 * @return
+	 * @since 1.0
+	 */
+	public static long getMissCount() {
+		return MISSES.sum();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class)
@@ -46,9 +84,18 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	@Override
 	public String getMapping(Class<?> type) {
 
-		String key = key(type, null);
+		Assert.notNull(type, "Type must not be null!");
 
-		return MAPPINGS.computeIfAbsent(key, __ -> delegate.getMapping(type));
+		TypeMappings mappings = MAPPINGS.get(type);
+		Optional<String> mapping = mappings.typeMapping;
+
+		if (mapping == null) {
+
+			mapping = Optional.ofNullable(delegate.getMapping(type));
+			mappings.typeMapping = mapping;
+		}
+
+		return mapping.orElse(null);
 	}
 
 	/*
@@ -58,9 +105,9 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	@Override
 	public String getMapping(Method method) {
 
-		String key = key(method.getDeclaringClass(), method);
+		Assert.notNull(method, "Method must not be null!");
 
-		return MAPPINGS.computeIfAbsent(key, __ -> delegate.getMapping(method));
+		return getMappingInfo(method.getDeclaringClass(), method).getMapping();
 	}
 
 	/*
@@ -69,10 +116,7 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	 */
 	@Override
 	public String getMapping(Class<?> type, Method method) {
-
-		String key = key(type, method);
-
-		return MAPPINGS.computeIfAbsent(key, __ -> delegate.getMapping(type, method));
+		return getMappingInfo(type, method).getMapping();
 	}
 
 	/*
@@ -81,20 +125,84 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	 */
 	@Override
 	public Collection<HttpMethod> getRequestMethod(Class<?> type, Method method) {
-		return METHODS.computeIfAbsent(key(type, method), __ -> delegate.getRequestMethod(type, method));
+		return getMappingInfo(type, method).getRequestMethods();
 	}
 
-	private static String key(Class<?> type, Method method) {
+	/**
+	 * Returns the {@link MappingInfo} for the given {@link Method} invoked on the given type, resolving it through the
+	 * delegate {@link MappingDiscoverer} on first access.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	public MappingInfo getMappingInfo(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		Map<Method, MappingInfo> infos = MAPPINGS.get(type).methods;
+		MappingInfo info = infos.get(method);
 
-		StringBuilder builder = new StringBuilder(type.getName());
+		boolean counting = HypermediaMetricsHolder.getMetrics().isEnabled();
 
-		if (method == null) {
-			return builder.toString();
+		if (info != null) {
+
+			if (counting) {
+				HITS.increment();
+			}
+
+			return info;
 		}
 
-		builder.append(method.getName());
-		builder.append(StringUtils.arrayToCommaDelimitedString(method.getParameterTypes()));
+		if (counting) {
+			MISSES.increment();
+		}
+
+		info = new MappingInfo(delegate.getMapping(type, method), delegate.getRequestMethod(type, method));
+		MappingInfo existing = infos.putIfAbsent(method, info);
+
+		return existing == null ? info : existing;
+	}
+
+	/**
+	 * The mapping, {@link HttpMethod}s and {@link UriTemplate} of a handler method.
+	 *
+	 * @since 1.0
+	 */
+	@Getter
+	public static class MappingInfo {
+
+		/**
+		 * The mapping of the method, {@literal null} if none declared.
+		 */
+		private final String mapping;
+
+		/**
+		 * The {@link HttpMethod}s the method is mapped to.
+		 */
+		private final Collection<HttpMethod> requestMethods;
+
+		/**
+		 * The {@link UriTemplate} for the mapping, using {@code /} in case no mapping is declared.
+		 */
+		private final UriTemplate template;
+
+		MappingInfo(String mapping, Collection<HttpMethod> requestMethods) {
+
+			this.mapping = mapping;
+			this.requestMethods = requestMethods;
+			this.template = UriTemplateFactory.templateFor(mapping == null ? "/" : mapping);
+		}
+	}
+
+	/**
+	 * All mapping information discovered for a single type.
+	 */
+	private static class TypeMappings {
 
-		return builder.toString();
+		private final Map<Method, MappingInfo> methods = new ConcurrentHashMap<>();
+		private volatile Optional<String> typeMapping;
 	}
 }
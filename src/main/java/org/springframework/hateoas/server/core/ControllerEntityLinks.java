@@ -15,8 +15,13 @@
  */
 package org.springframework.hateoas.server.core;
 
+import static org.springframework.hateoas.server.core.EncodingUtils.*;
+
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.hateoas.Link;
@@ -25,6 +30,7 @@ import org.springframework.hateoas.server.ExposesResourceFor;
 import org.springframework.hateoas.server.LinkBuilder;
 import org.springframework.hateoas.server.LinkBuilderFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * {@link EntityLinks} implementation which assumes a certain URI mapping structure:
@@ -134,6 +140,69 @@ public class ControllerEntityLinks extends AbstractEntityLinks {
 		return linkFor(entity).slash(id).withSelfRel();
 	}
 
+	/**
+	 * Resolves the link to the collection resource only once and appends the encoded ids to it. Falls back to
+	 * {@link LinkBuilder#slash(Object)} for ids that would contribute more than a single path segment and for collection
+	 * resources whose URI is not a plain path.
+	 *
+	 * @see org.springframework.hateoas.server.EntityLinks#linksToItemResources(java.lang.Class, java.lang.Iterable)
+	 */
+	@Override
+	public List<Link> linksToItemResources(Class<?> entity, Iterable<?> ids) {
+
+		Assert.notNull(ids, "Identifiers must not be null!");
+
+		LinkBuilder builder = linkFor(entity);
+		Link collection = builder.withSelfRel();
+		String href = collection.getHref();
+
+		boolean plainPath = collection.getAffordances().isEmpty() && !containsAny(href, "?#{");
+		String prefix = href.endsWith("/") ? href : href.concat("/");
+
+		List<Link> links = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			String segment = plainPath ? toPathSegment(id) : null;
+
+			links.add(segment == null //
+					? builder.slash(id).withSelfRel() //
+					: new Link(prefix.concat(encodePath(segment))));
+		}
+
+		return links;
+	}
+
+	/**
+	 * Returns the given id as single path segment or {@literal null} if it can't be represented as such.
+	 *
+	 * @param id can be {@literal null}.
+	 * @return
+	 */
+	private static String toPathSegment(Object id) {
+
+		Object value = id instanceof Optional ? ((Optional<?>) id).orElse(null) : id;
+
+		if (value == null) {
+			return null;
+		}
+
+		String segment = value.toString();
+
+		return StringUtils.hasText(segment) && !containsAny(segment, "/?#") ? segment : null;
+	}
+
+	private static boolean containsAny(String source, String characters) {
+
+		for (int i = 0; i < characters.length(); i++) {
+			if (source.indexOf(characters.charAt(i)) != -1) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.MethodIntrospector.MetadataLookup;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.server.ExposesResourceFor;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Resolves the mappings, HTTP methods, URI templates and method parameters of all request mapped methods of the
+ * {@link Controller}s and {@link ExposesResourceFor} components in the {@link ApplicationContext} once all singletons
+ * are instantiated. That way, the first links pointing to them don't have to pay for the reflective inspection.
+ *
+ * @see WebHandler#preResolve(Class, Method)
+ * @since 1.0
+ */
+public class ControllerMappingsPreResolver implements ApplicationContextAware, SmartInitializingSingleton {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ControllerMappingsPreResolver.class);
+
+	private ApplicationContext context;
+	private int resolvedMethods;
+	private long duration;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
+	 */
+	@Override
+	public void setApplicationContext(ApplicationContext context) {
+		this.context = context;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		if (context == null) {
+			return;
+		}
+
+		long start = System.nanoTime();
+		int methods = 0;
+
+		for (Class<?> type : findControllerTypes()) {
+
+			Set<Method> handlerMethods = MethodIntrospector.selectMethods(type,
+					(MetadataLookup<Boolean>) method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class) //
+							? Boolean.TRUE //
+							: null).keySet();
+
+			for (Method method : handlerMethods) {
+
+				try {
+
+					WebHandler.preResolve(type, method);
+					methods++;
+
+				} catch (RuntimeException o_O) {
+
+					// Links to the method will surface the problem, the startup must not fail because of it
+					LOG.debug("Could not pre-resolve link mapping for {}!", method, o_O);
+				}
+			}
+		}
+
+		this.resolvedMethods = methods;
+		this.duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		LOG.info("Pre-resolved link mappings for {} controller methods in {} ms.", resolvedMethods, duration);
+	}
+
+	/**
+	 * Returns the number of controller methods whose mappings were pre-resolved.
+	 *
+	 * @return
+	 */
+	public int getResolvedMethods() {
+		return resolvedMethods;
+	}
+
+	/**
+	 * Returns the time spent pre-resolving the mappings in milliseconds.
+	 *
+	 * @return
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	private Set<Class<?>> findControllerTypes() {
+
+		Set<String> beanNames = new LinkedHashSet<>();
+
+		for (String beanName : context.getBeanNamesForAnnotation(Controller.class)) {
+			beanNames.add(beanName);
+		}
+
+		for (String beanName : context.getBeanNamesForAnnotation(ExposesResourceFor.class)) {
+			beanNames.add(beanName);
+		}
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+
+		for (String beanName : beanNames) {
+
+			Class<?> type = context.getType(beanName);
+
+			if (type != null) {
+				types.add(ClassUtils.getUserClass(type));
+			}
+		}
+
+		return types;
+	}
+}
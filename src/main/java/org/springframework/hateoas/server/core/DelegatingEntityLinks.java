@@ -15,6 +15,8 @@
  */
 package org.springframework.hateoas.server.core;
 
+import java.util.List;
+
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.LinkBuilder;
@@ -78,6 +80,15 @@ public class DelegatingEntityLinks extends AbstractEntityLinks {
 		return getPluginFor(type).linkToItemResource(type, id);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.EntityLinks#linksToItemResources(java.lang.Class, java.lang.Iterable)
+	 */
+	@Override
+	public List<Link> linksToItemResources(Class<?> type, Iterable<?> ids) {
+		return getPluginFor(type).linksToItemResources(type, ids);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
@@ -27,6 +27,7 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.target.EmptyTargetSource;
 import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.hateoas.support.HypermediaEvents;
 import org.springframework.objenesis.ObjenesisStd;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
@@ -140,8 +141,14 @@ public class DummyInvocationUtils {
 
 		Assert.notNull(type, "Given type must not be null!");
 
+		Object event = HypermediaEvents.beginMethodOn();
+
 		InvocationRecordingMethodInterceptor interceptor = new InvocationRecordingMethodInterceptor(type, parameters);
-		return getProxyWithInterceptor(type, interceptor, type.getClassLoader());
+		T proxy = getProxyWithInterceptor(type, interceptor, type.getClassLoader());
+
+		HypermediaEvents.commitMethodOn(event, type);
+
+		return proxy;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Computes strong {@literal ETag}s for rendered representations and evaluates {@literal If-None-Match} headers
+ * against them. Register an instance as Spring bean to let the hypermedia enabled message converters (Spring MVC) and
+ * message writers (Spring WebFlux) digest the bodies of {@link org.springframework.hateoas.RepresentationModel}s while
+ * rendering them, add an {@literal ETag} header and answer matching conditional {@literal GET} requests with
+ * {@literal 304 Not Modified}.
+ * <p>
+ * Responses that already carry an {@literal ETag} header are left untouched. That allows controllers to short-circuit
+ * the assembly of a model based on a cheap version key (see
+ * {@link org.springframework.hateoas.server.VersionedRepresentationModelAssembler}) by calling
+ * {@link #checkNotModified(WebRequest, Object)} or {@link #checkNotModified(ServerWebExchange, Object)} respectively.
+ * The server doesn't do that on its own, as it never sees the entity a model is assembled from.
+ *
+ * @since 1.0
+ */
+public class ETagGenerator {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final String algorithm;
+
+	/**
+	 * Creates a new {@link ETagGenerator} using {@literal MD5} digests.
+	 */
+	public ETagGenerator() {
+		this("MD5");
+	}
+
+	/**
+	 * Creates a new {@link ETagGenerator} using the given {@link MessageDigest} algorithm.
+	 *
+	 * @param algorithm must not be {@literal null} or empty.
+	 * @throws IllegalArgumentException if the algorithm is not available.
+	 */
+	public ETagGenerator(String algorithm) {
+
+		Assert.hasText(algorithm, "Algorithm must not be null or empty!");
+
+		this.algorithm = algorithm;
+
+		newDigest();
+	}
+
+	/**
+	 * Creates a new {@link MessageDigest} to digest a representation. The representation is buffered before it's written,
+	 * as the {@literal ETag} header has to precede the body, so the digest is updated with the complete body at once.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public MessageDigest newDigest() {
+
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalArgumentException(String.format("Digest algorithm %s not available!", algorithm), o_O);
+		}
+	}
+
+	/**
+	 * Returns the strong {@literal ETag} for the given {@link MessageDigest}, which will be reset in turn.
+	 *
+	 * @param digest must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public String toETag(MessageDigest digest) {
+
+		Assert.notNull(digest, "MessageDigest must not be null!");
+
+		byte[] hash = digest.digest();
+		StringBuilder builder = new StringBuilder(hash.length * 2 + 2).append('"');
+
+		for (byte b : hash) {
+			builder.append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+		}
+
+		return builder.append('"').toString();
+	}
+
+	/**
+	 * Returns the strong {@literal ETag} for the given rendered representation.
+	 *
+	 * @param representation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public String forRepresentation(byte[] representation) {
+
+		Assert.notNull(representation, "Representation must not be null!");
+
+		MessageDigest digest = newDigest();
+		digest.update(representation);
+
+		return toETag(digest);
+	}
+
+	/**
+	 * Returns the strong {@literal ETag} for the given version key of a resource. The key has to change whenever the
+	 * representation of the resource changes.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public String forVersion(Object version) {
+
+		Assert.notNull(version, "Version must not be null!");
+
+		return forRepresentation(version.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Checks the given {@link WebRequest} against the {@literal ETag} for the given version key (see
+	 * {@link #forVersion(Object)}). Adds the {@literal ETag} header to the response and sets its status to
+	 * {@literal 304 Not Modified} if the client's copy is current.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @param version must not be {@literal null}.
+	 * @return whether the client's copy is current, i.e. the model doesn't need to be assembled.
+	 * @see WebRequest#checkNotModified(String)
+	 */
+	public boolean checkNotModified(WebRequest request, Object version) {
+
+		Assert.notNull(request, "WebRequest must not be null!");
+
+		return request.checkNotModified(forVersion(version));
+	}
+
+	/**
+	 * Checks the given {@link ServerWebExchange} against the {@literal ETag} for the given version key (see
+	 * {@link #forVersion(Object)}). Adds the {@literal ETag} header to the response and sets its status to
+	 * {@literal 304 Not Modified} if the client's copy is current.
+	 *
+	 * @param exchange must not be {@literal null}.
+	 * @param version must not be {@literal null}.
+	 * @return whether the client's copy is current, i.e. the model doesn't need to be assembled.
+	 * @see ServerWebExchange#checkNotModified(String)
+	 */
+	public boolean checkNotModified(ServerWebExchange exchange, Object version) {
+
+		Assert.notNull(exchange, "ServerWebExchange must not be null!");
+
+		return exchange.checkNotModified(forVersion(version));
+	}
+
+	/**
+	 * Returns whether {@literal ETag}s shall be evaluated for requests with the given {@link HttpMethod}.
+	 *
+	 * @param method can be {@literal null}.
+	 * @return
+	 */
+	public boolean appliesTo(HttpMethod method) {
+		return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+	}
+
+	/**
+	 * Returns whether the given {@literal ETag} matches any of the given {@literal If-None-Match} values, i.e. whether
+	 * the client's copy is current. Uses weak comparison as mandated for {@literal If-None-Match}.
+	 *
+	 * @param eTag must not be {@literal null}.
+	 * @param ifNoneMatch must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isNotModified(String eTag, Collection<String> ifNoneMatch) {
+
+		Assert.notNull(eTag, "ETag must not be null!");
+		Assert.notNull(ifNoneMatch, "If-None-Match values must not be null!");
+
+		String candidate = stripWeakIndicator(eTag);
+
+		for (String value : ifNoneMatch) {
+
+			if ("*".equals(value) || candidate.equals(stripWeakIndicator(value))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static String stripWeakIndicator(String eTag) {
+
+		String trimmed = eTag.trim();
+
+		return trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed;
+	}
+}
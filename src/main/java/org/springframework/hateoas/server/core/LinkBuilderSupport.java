@@ -148,8 +148,11 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 */
 	public Link withRel(LinkRelation rel) {
 
-		return new Link(toString(), rel) //
-				.withAffordances(affordances);
+		return Link.builder() //
+				.href(toString()) //
+				.rel(rel) //
+				.affordances(affordances) //
+				.build();
 	}
 
 	/*
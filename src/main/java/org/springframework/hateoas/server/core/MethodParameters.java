@@ -38,10 +38,26 @@ import org.springframework.util.ConcurrentReferenceHashMap;
 public class MethodParameters {
 
 	private static ParameterNameDiscoverer DISCOVERER = new DefaultParameterNameDiscoverer();
+	private static final Map<Method, MethodParameters> CACHE = new ConcurrentReferenceHashMap<>(16,
+			ConcurrentReferenceHashMap.ReferenceType.WEAK);
 
 	private final List<MethodParameter> parameters;
 	private final Map<Class<?>, List<MethodParameter>> parametersWithAnnotationCache = new ConcurrentReferenceHashMap<>();
 
+	/**
+	 * Returns the {@link MethodParameters} for the given {@link Method}. Instances are cached per {@link Method}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	public static MethodParameters of(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return CACHE.computeIfAbsent(method, MethodParameters::new);
+	}
+
 	/**
 	 * Creates a new {@link MethodParameters} from the given {@link Method}.
 	 * 
@@ -0,0 +1,392 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * Cache for the serialized form of {@link RepresentationModel}s that are rendered identically for every request, like
+ * index or profile documents. Models have to be registered explicitly via {@link #cacheable(RepresentationModel)} and
+ * have to be {@link #evict(RepresentationModel) evicted} once they're changed. Registrations are tracked by identity,
+ * i.e. only the very instance registered is considered cacheable, not ones equal to it, and they're kept until evicted.
+ * The rendered bytes, and the {@literal ETag} computed for them if requested, are held per model, media type and base
+ * URI of the request.
+ * <p>
+ * Lookups neither lock nor allocate. The number of rendered representations held is bounded. Once exceeded, a
+ * representation not looked up since the last eviction is dropped, so that recently used ones are kept (second chance
+ * approximation of least recently used).
+ * <p>
+ * Register an instance as Spring bean to let the hypermedia enabled message converters (Spring MVC) and encoders
+ * (Spring WebFlux) use it.
+ *
+ * @since 1.0
+ */
+public class RenderedRepresentationCache {
+
+	// Copy-on-write as registrations are rare compared to the lookups for every response written
+	private volatile Map<Object, Representations> cacheable = Collections.emptyMap();
+	private final int maximumSize;
+	private final AtomicInteger size = new AtomicInteger();
+	private final Object evictionMonitor = new Object();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Creates a new {@link RenderedRepresentationCache} holding at most the given number of rendered representations.
+	 *
+	 * @param maximumSize must be greater than zero.
+	 */
+	public RenderedRepresentationCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero!");
+
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Registers the given {@link RepresentationModel} for caching its rendered representations. The model must not be
+	 * changed afterwards unless it gets {@link #evict(RepresentationModel) evicted}.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @return the given model.
+	 */
+	public <T extends RepresentationModel<?>> T cacheable(T model) {
+
+		Assert.notNull(model, "Model must not be null!");
+
+		synchronized (this) {
+
+			if (!cacheable.containsKey(model)) {
+
+				Map<Object, Representations> registrations = new IdentityHashMap<>(cacheable);
+				registrations.put(model, new Representations());
+
+				this.cacheable = registrations;
+			}
+		}
+
+		return model;
+	}
+
+	/**
+	 * Returns whether the given value was registered for caching.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return
+	 */
+	public boolean isCacheable(Object value) {
+		return value != null && cacheable.containsKey(value);
+	}
+
+	/**
+	 * Drops all rendered representations of the given model and removes its registration.
+	 *
+	 * @param model must not be {@literal null}.
+	 */
+	public void evict(RepresentationModel<?> model) {
+
+		Assert.notNull(model, "Model must not be null!");
+
+		Representations representations;
+
+		synchronized (this) {
+
+			Map<Object, Representations> registrations = new IdentityHashMap<>(cacheable);
+			representations = registrations.remove(model);
+
+			this.cacheable = registrations;
+		}
+
+		if (representations != null) {
+			representations.removeAll(size);
+		}
+	}
+
+	/**
+	 * Drops all rendered representations and registrations.
+	 */
+	public void clear() {
+
+		Map<Object, Representations> registrations;
+
+		synchronized (this) {
+
+			registrations = cacheable;
+			this.cacheable = Collections.emptyMap();
+		}
+
+		registrations.values().forEach(it -> it.removeAll(size));
+	}
+
+	/**
+	 * Returns the rendered representation of the given model for the given media type and base URI.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @param mimeType must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 * @return the rendered bytes or {@literal null} if none cached.
+	 */
+	public byte[] get(Object model, MimeType mimeType, String baseUri) {
+
+		Representation representation = lookup(model, mimeType, baseUri);
+
+		if (representation == null) {
+			misses.increment();
+			return null;
+		}
+
+		hits.increment();
+
+		return representation.bytes;
+	}
+
+	/**
+	 * Returns the strong {@literal ETag} of the rendered representation of the given model for the given media type and
+	 * base URI. It is computed using the given {@link ETagGenerator} once and kept alongside the rendered bytes.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @param mimeType must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 * @param generator must not be {@literal null}.
+	 * @return the {@literal ETag} or {@literal null} if no representation is cached.
+	 */
+	public String getETag(Object model, MimeType mimeType, String baseUri, ETagGenerator generator) {
+
+		Assert.notNull(generator, "ETagGenerator must not be null!");
+
+		Representation representation = lookup(model, mimeType, baseUri);
+
+		return representation == null ? null : representation.getETag(generator);
+	}
+
+	/**
+	 * Stores the rendered representation of the given model for the given media type and base URI. Will be ignored if
+	 * the model is not registered as {@link #cacheable(RepresentationModel)}.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @param mimeType must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 */
+	public void put(Object model, MimeType mimeType, String baseUri, byte[] representation) {
+
+		Assert.notNull(mimeType, "MimeType must not be null!");
+		Assert.notNull(baseUri, "Base URI must not be null!");
+		Assert.notNull(representation, "Representation must not be null!");
+
+		Representations representations = model == null ? null : cacheable.get(model);
+
+		if (representations == null) {
+			return;
+		}
+
+		ConcurrentMap<String, Representation> byBaseUri = representations.getOrCreate(mimeType);
+		Representation added = new Representation(representation);
+
+		if (byBaseUri.put(baseUri, added) != null) {
+			return;
+		}
+
+		size.incrementAndGet();
+
+		// Evicted concurrently, make sure the representation doesn't linger around unreachable
+		if (cacheable.get(model) != representations) {
+
+			if (byBaseUri.remove(baseUri, added)) {
+				size.decrementAndGet();
+			}
+
+			return;
+		}
+
+		if (size.get() > maximumSize) {
+			evictUnused(added);
+		}
+	}
+
+	/**
+	 * Returns the number of rendered representations currently held.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Returns the number of lookups answered from the cache.
+	 *
+	 * @return
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that required the model to be rendered.
+	 *
+	 * @return
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	private Representation lookup(Object model, MimeType mimeType, String baseUri) {
+
+		Representations representations = model == null ? null : cacheable.get(model);
+
+		if (representations == null) {
+			return null;
+		}
+
+		Map<String, Representation> byBaseUri = representations.byMimeType.get(mimeType);
+		Representation representation = byBaseUri == null ? null : byBaseUri.get(baseUri);
+
+		if (representation != null) {
+			representation.markUsed();
+		}
+
+		return representation;
+	}
+
+	/**
+	 * Drops representations until the cache doesn't exceed its maximum size anymore. Representations used since the last
+	 * sweep get a second chance, i.e. they're only marked unused. The given, just added representation is never dropped.
+	 *
+	 * @param added must not be {@literal null}.
+	 */
+	private void evictUnused(Representation added) {
+
+		synchronized (evictionMonitor) {
+
+			boolean progress = true;
+
+			while (size.get() > maximumSize && progress) {
+
+				progress = false;
+
+				for (Representations representations : cacheable.values()) {
+					for (Map<String, Representation> byBaseUri : representations.byMimeType.values()) {
+						for (Map.Entry<String, Representation> entry : byBaseUri.entrySet()) {
+
+							Representation candidate = entry.getValue();
+
+							if (candidate == added) {
+								continue;
+							}
+
+							if (candidate.used) {
+
+								candidate.used = false;
+								progress = true;
+
+							} else if (byBaseUri.remove(entry.getKey(), candidate)) {
+
+								progress = true;
+
+								if (size.decrementAndGet() <= maximumSize) {
+									return;
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The rendered representations of a single model per media type and base URI.
+	 */
+	private static class Representations {
+
+		private final ConcurrentMap<MimeType, ConcurrentMap<String, Representation>> byMimeType = new ConcurrentHashMap<>(
+				4);
+
+		ConcurrentMap<String, Representation> getOrCreate(MimeType mimeType) {
+
+			ConcurrentMap<String, Representation> byBaseUri = byMimeType.get(mimeType);
+
+			return byBaseUri != null //
+					? byBaseUri //
+					: byMimeType.computeIfAbsent(mimeType, __ -> new ConcurrentHashMap<>(4));
+		}
+
+		void removeAll(AtomicInteger size) {
+
+			for (Map<String, Representation> byBaseUri : byMimeType.values()) {
+				for (Map.Entry<String, Representation> entry : byBaseUri.entrySet()) {
+					if (byBaseUri.remove(entry.getKey(), entry.getValue())) {
+						size.decrementAndGet();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * A rendered representation and the {@literal ETag} computed for it.
+	 */
+	@RequiredArgsConstructor
+	private static class Representation {
+
+		private final byte[] bytes;
+		private volatile ETag eTag;
+		private volatile boolean used;
+
+		/**
+		 * Marks the representation as used. Only writes if needed to not contend on representations looked up frequently.
+		 */
+		void markUsed() {
+
+			if (!used) {
+				used = true;
+			}
+		}
+
+		String getETag(ETagGenerator generator) {
+
+			ETag eTag = this.eTag;
+
+			if (eTag == null || eTag.generator != generator) {
+
+				eTag = new ETag(generator, generator.forRepresentation(bytes));
+				this.eTag = eTag;
+			}
+
+			return eTag.value;
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class ETag {
+
+		private final ETagGenerator generator;
+		private final String value;
+	}
+}
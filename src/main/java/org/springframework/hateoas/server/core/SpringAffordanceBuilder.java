@@ -57,9 +57,9 @@ public class SpringAffordanceBuilder {
 			String methodName = invocation.getMethod().getName();
 
 			String href = components.toUriString().equals("") ? "/" : components.toUriString();
-			Link affordanceLink = new Link(href).withRel(LinkRelation.of(methodName));
+			Link affordanceLink = new Link(href, LinkRelation.of(methodName));
 
-			MethodParameters invocationMethodParameters = new MethodParameters(invocation.getMethod());
+			MethodParameters invocationMethodParameters = MethodParameters.of(invocation.getMethod());
 
 			ResolvableType inputType = invocationMethodParameters.getParametersWith(RequestBody.class).stream() //
 					.findFirst() //
@@ -16,7 +16,10 @@
 package org.springframework.hateoas.server.core;
 
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.springframework.hateoas.support.HypermediaMetrics;
+import org.springframework.hateoas.support.HypermediaMetricsHolder;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.util.UriTemplate;
@@ -30,6 +33,8 @@ import org.springframework.web.util.UriTemplate;
 public class UriTemplateFactory {
 
 	private static final Map<String, UriTemplate> CACHE = new ConcurrentReferenceHashMap<String, UriTemplate>();
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
 
 	/**
 	 * Returns the the {@link UriTemplate} for the given mapping.
@@ -41,6 +46,45 @@ public class UriTemplateFactory {
 
 		Assert.hasText(mapping, "Mapping must not be null or empty!");
 
+		UriTemplate template = CACHE.get(mapping);
+
+		boolean counting = HypermediaMetricsHolder.getMetrics().isEnabled();
+
+		if (template != null) {
+
+			if (counting) {
+				HITS.increment();
+			}
+
+			return template;
+		}
+
+		if (counting) {
+			MISSES.increment();
+		}
+
 		return CACHE.computeIfAbsent(mapping, UriTemplate::new);
 	}
+
+	/**
+	 * Returns the number of {@link UriTemplate} lookups answered from the cache. Only counted
+	 * while {@link HypermediaMetrics} are enabled.
+	 *
+	 * @return
+	 * @since 1.0
+	 */
+	public static long getHitCount() {
+		return HITS.sum();
+	}
+
+	/**
+	 * Returns the number of {@link UriTemplate} lookups that required the mapping to be parsed. Only counted while
+	 * {@link HypermediaMetrics} are enabled.
+	 *
+	 * @return
+	 * @since 1.0
+	 */
+	public static long getMissCount() {
+		return MISSES.sum();
+	}
 }
@@ -42,8 +42,11 @@ import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.server.LinkBuilder;
+import org.springframework.hateoas.server.core.CachingMappingDiscoverer.MappingInfo;
+import org.springframework.hateoas.support.HypermediaEvents;
+import org.springframework.hateoas.support.HypermediaMetrics;
+import org.springframework.hateoas.support.HypermediaMetricsHolder;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -62,7 +65,7 @@ import org.springframework.web.util.UriTemplate;
  */
 public class WebHandler {
 
-	private static final MappingDiscoverer DISCOVERER = CachingMappingDiscoverer
+	private static final CachingMappingDiscoverer DISCOVERER = CachingMappingDiscoverer
 			.of(new AnnotationMappingDiscoverer(RequestMapping.class));
 	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR //
 			= new AnnotatedParametersParameterAccessor(new AnnotationAttribute(PathVariable.class));
@@ -88,65 +91,107 @@ public class WebHandler {
 		MethodInvocation invocation = invocations.getLastInvocation();
 
 		return mappingToUriComponentsBuilder -> {
-			String mapping = DISCOVERER.getMapping(invocation.getTargetType(), invocation.getMethod());
 
-			UriComponentsBuilder builder = mappingToUriComponentsBuilder.apply(mapping);
-			UriTemplate template = UriTemplateFactory.templateFor(mapping == null ? "/" : mapping);
-			Map<String, Object> values = new HashMap<>();
+			HypermediaMetrics metrics = HypermediaMetricsHolder.getMetrics();
+			Object event = HypermediaEvents.beginLinkCreation();
 
-			Iterator<String> names = template.getVariableNames().iterator();
-			Iterator<Object> classMappingParameters = invocations.getObjectParameters();
-
-			while (classMappingParameters.hasNext()) {
-				values.put(names.next(), encodePath(classMappingParameters.next()));
+			if (!metrics.isEnabled() && event == null) {
+				return createBuilder(invocations, mappingToUriComponentsBuilder, creator, additionalUriHandler);
 			}
 
-			for (AnnotatedParametersParameterAccessor.BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR
-					.getBoundParameters(invocation)) {
-				values.put(parameter.getVariableName(), encodePath(parameter.asString()));
+			long start = System.nanoTime();
+
+			try {
+				return createBuilder(invocations, mappingToUriComponentsBuilder, creator, additionalUriHandler);
+			} finally {
+				metrics.recordLinkCreation(invocation.getTargetType(), System.nanoTime() - start);
+				HypermediaEvents.commitLinkCreation(event, invocation.getTargetType(), invocation.getMethod());
 			}
+		};
+	}
 
-			List<String> optionalEmptyParameters = new ArrayList<>();
+	private static <T extends LinkBuilder> T createBuilder(LastInvocationAware invocations,
+			Function<String, UriComponentsBuilder> mappingToUriComponentsBuilder, LinkBuilderCreator<T> creator,
+			BiFunction<UriComponentsBuilder, MethodInvocation, UriComponentsBuilder> additionalUriHandler) {
 
-			for (AnnotatedParametersParameterAccessor.BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR
-					.getBoundParameters(invocation)) {
+		MethodInvocation invocation = invocations.getLastInvocation();
+		MappingInfo info = DISCOVERER.getMappingInfo(invocation.getTargetType(), invocation.getMethod());
 
-				bindRequestParameters(builder, parameter);
+		UriComponentsBuilder builder = mappingToUriComponentsBuilder.apply(info.getMapping());
+		UriTemplate template = info.getTemplate();
+		Map<String, Object> values = new HashMap<>();
 
-				if (SKIP_VALUE.equals(parameter.getValue())) {
+		Iterator<String> names = template.getVariableNames().iterator();
+		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
 
-					values.put(parameter.getVariableName(), SKIP_VALUE);
+		while (classMappingParameters.hasNext()) {
+			values.put(names.next(), encodePath(classMappingParameters.next()));
+		}
 
-					if (!parameter.isRequired()) {
-						optionalEmptyParameters.add(parameter.getVariableName());
-					}
+		for (AnnotatedParametersParameterAccessor.BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR
+				.getBoundParameters(invocation)) {
+			values.put(parameter.getVariableName(), encodePath(parameter.asString()));
+		}
+
+		List<String> optionalEmptyParameters = new ArrayList<>();
+
+		for (AnnotatedParametersParameterAccessor.BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR
+				.getBoundParameters(invocation)) {
+
+			bindRequestParameters(builder, parameter);
+
+			if (SKIP_VALUE.equals(parameter.getValue())) {
+
+				values.put(parameter.getVariableName(), SKIP_VALUE);
+
+				if (!parameter.isRequired()) {
+					optionalEmptyParameters.add(parameter.getVariableName());
 				}
 			}
+		}
 
-			for (String variable : template.getVariableNames()) {
-				if (!values.containsKey(variable)) {
-					values.put(variable, SKIP_VALUE);
-				}
+		for (String variable : template.getVariableNames()) {
+			if (!values.containsKey(variable)) {
+				values.put(variable, SKIP_VALUE);
 			}
+		}
 
-			UriComponents components = additionalUriHandler == null //
-					? builder.buildAndExpand(values)
-					: additionalUriHandler.apply(builder, invocation).buildAndExpand(values);
+		UriComponents components = additionalUriHandler == null //
+				? builder.buildAndExpand(values)
+				: additionalUriHandler.apply(builder, invocation).buildAndExpand(values);
 
-			TemplateVariables variables = NONE;
+		TemplateVariables variables = NONE;
 
-			for (String parameter : optionalEmptyParameters) {
+		for (String parameter : optionalEmptyParameters) {
 
-				boolean previousRequestParameter = components.getQueryParams().isEmpty() && variables.equals(NONE);
-				TemplateVariable variable = new TemplateVariable(parameter,
-						previousRequestParameter ? REQUEST_PARAM : REQUEST_PARAM_CONTINUED);
-				variables = variables.concat(variable);
-			}
+			boolean previousRequestParameter = components.getQueryParams().isEmpty() && variables.equals(NONE);
+			TemplateVariable variable = new TemplateVariable(parameter,
+					previousRequestParameter ? REQUEST_PARAM : REQUEST_PARAM_CONTINUED);
+			variables = variables.concat(variable);
+		}
 
-			List<Affordance> affordances = SpringAffordanceBuilder.create(invocation, DISCOVERER, components);
+		List<Affordance> affordances = SpringAffordanceBuilder.create(invocation, DISCOVERER, components);
 
-			return creator.createBuilder(components, variables, affordances);
-		};
+		return creator.createBuilder(components, variables, affordances);
+	}
+
+	/**
+	 * Resolves the mapping, HTTP methods, {@link UriTemplate} and {@link MethodParameters} of the given controller method
+	 * into the caches consulted by {@link #linkTo(Object, LinkBuilderCreator)}, so that the first link pointing to it
+	 * doesn't have to inspect the method reflectively.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @since 1.0
+	 */
+	public static void preResolve(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		DISCOVERER.getMappingInfo(type, method);
+		MethodParameters.of(method).getParametersWith(PathVariable.class);
+		MethodParameters.of(method).getParametersWith(RequestParam.class);
 	}
 
 	/**
@@ -271,9 +316,6 @@ public class WebHandler {
 	@RequiredArgsConstructor
 	private static class AnnotatedParametersParameterAccessor {
 
-		private static final Map<Method, MethodParameters> METHOD_PARAMETERS_CACHE = new ConcurrentReferenceHashMap<>(16,
-				ConcurrentReferenceHashMap.ReferenceType.WEAK);
-
 		private final @NonNull AnnotationAttribute attribute;
 
 		/**
@@ -286,7 +328,7 @@ public class WebHandler {
 
 			Assert.notNull(invocation, "MethodInvocation must not be null!");
 
-			MethodParameters parameters = getOrCreateMethodParametersFor(invocation.getMethod());
+			MethodParameters parameters = MethodParameters.of(invocation.getMethod());
 			Object[] arguments = invocation.getArguments();
 			List<BoundMethodParameter> result = new ArrayList<>();
 
@@ -329,16 +371,6 @@ public class WebHandler {
 			return value;
 		}
 
-		/**
-		 * Returns the {@link MethodParameters} for the given {@link Method}.
-		 *
-		 * @param method
-		 * @return
-		 */
-		private static MethodParameters getOrCreateMethodParametersFor(Method method) {
-			return METHOD_PARAMETERS_CACHE.computeIfAbsent(method, MethodParameters::new);
-		}
-
 		/**
 		 * Represents a {@link MethodParameter} alongside the value it has been bound to.
 		 *
@@ -18,8 +18,6 @@ package org.springframework.hateoas.server.mvc;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
-import java.lang.reflect.Field;
-
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.hateoas.CollectionModel;
@@ -29,7 +27,6 @@ import org.springframework.hateoas.server.RepresentationModelProcessor;
 import org.springframework.hateoas.server.core.HeaderLinksResponseEntity;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.ReflectionUtils;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.method.support.ModelAndViewContainer;
@@ -49,12 +46,6 @@ public class RepresentationModelProcessorHandlerMethodReturnValueHandler impleme
 	static final ResolvableType RESOURCES_TYPE = ResolvableType.forRawClass(CollectionModel.class);
 	private static final ResolvableType HTTP_ENTITY_TYPE = ResolvableType.forRawClass(HttpEntity.class);
 
-	static final Field CONTENT_FIELD = ReflectionUtils.findField(CollectionModel.class, "content");
-
-	static {
-		ReflectionUtils.makeAccessible(CONTENT_FIELD);
-	}
-
 	private final @NonNull HandlerMethodReturnValueHandler delegate;
 	private final @NonNull RepresentationModelProcessorInvoker invoker;
 
@@ -15,21 +15,31 @@
  */
 package org.springframework.hateoas.server.mvc;
 
+import lombok.Value;
+
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.CollectionModelAccessor;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.BatchRepresentationModelProcessor;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
 import org.springframework.hateoas.server.core.EmbeddedWrapper;
+import org.springframework.hateoas.support.HypermediaEvents;
+import org.springframework.hateoas.support.HypermediaMetrics;
+import org.springframework.hateoas.support.HypermediaMetricsHolder;
 import org.springframework.util.Assert;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Component to easily invoke all {@link RepresentationModelProcessor} instances registered for values of type
@@ -42,6 +52,8 @@ import org.springframework.util.ReflectionUtils;
 public class RepresentationModelProcessorInvoker {
 
 	private final List<ProcessorWrapper> processors;
+	private final Map<DispatchKey, List<ProcessorWrapper>> dispatchTable = new ConcurrentReferenceHashMap<>();
+	private final boolean hasBatchProcessors;
 
 	/**
 	 * Creates a new {@link RepresentationModelProcessorInvoker} to consider the given
@@ -55,6 +67,7 @@ public class RepresentationModelProcessorInvoker {
 		Assert.notNull(processors, "ResourceProcessors must not be null!");
 
 		this.processors = new ArrayList<>();
+		this.hasBatchProcessors = processors.stream().anyMatch(BatchRepresentationModelProcessor.class::isInstance);
 
 		for (RepresentationModelProcessor<?> processor : processors) {
 
@@ -106,28 +119,222 @@ public class RepresentationModelProcessorInvoker {
 			CollectionModel<?> resources = (CollectionModel<?>) value;
 			ResolvableType elementTargetType = ResolvableType
 					.forClass(CollectionModel.class, referenceType.getRawClass()).getGeneric(0);
-			List<Object> result = new ArrayList<>(resources.getContent().size());
 
-			for (Object element : resources) {
+			if (hasBatchProcessors) {
+
+				invokeBatchProcessorsFor(resources, elementTargetType);
+
+			} else {
+
+				int index = 0;
+
+				for (Object element : resources) {
+
+					if (!getRawType(elementTargetType).equals(element.getClass())) {
+						elementTargetType = ResolvableType.forClass(element.getClass());
+					}
+
+					Object processed = invokeProcessorsFor(element, elementTargetType);
+
+					if (processed != element) {
+						replaceElement(resources, index, processed);
+					}
+
+					index++;
+				}
+			}
+		}
+
+		return (T) invokeProcessorsFor(Object.class.cast(value), referenceType);
+	}
+
+	/**
+	 * Invokes all registered {@link RepresentationModelProcessor}s for the given elements of a {@link CollectionModel}.
+	 * Processors are invoked in order, each of them once for all elements it applies to, so that
+	 * {@link BatchRepresentationModelProcessor}s get handed all of those elements in a single call. Elements replaced by a
+	 * processor get the remaining processors selected by inspecting the new value.
+	 *
+	 * @param resources must not be {@literal null}.
+	 * @param elementTargetType the declared type of the elements, must not be {@literal null}.
+	 */
+	private void invokeBatchProcessorsFor(CollectionModel<?> resources, ResolvableType elementTargetType) {
+
+		Object[] elements = resources.getContent().toArray();
+		int size = elements.length;
+		Object[] values = elements.clone();
+		ResolvableType[] types = new ResolvableType[size];
+		BitSet[] buckets = new BitSet[this.processors.size()];
+
+		for (int i = 0; i < size; i++) {
+
+			if (!getRawType(elementTargetType).equals(values[i].getClass())) {
+				elementTargetType = ResolvableType.forClass(values[i].getClass());
+			}
+
+			ResolvableType type = elementTargetType;
+			Object value = values[i];
+			List<ProcessorWrapper> candidates = dispatchTable.computeIfAbsent(DispatchKey.of(type, value),
+					it -> findProcessors(type, value, 0));
+
+			types[i] = type;
+
+			// Candidates are in processor order, so a single pass over the processors finds their indexes
+			int index = 0;
 
-				ResolvableType elementType = ResolvableType.forClass(element.getClass());
+			for (ProcessorWrapper candidate : candidates) {
 
-				if (!getRawType(elementTargetType).equals(elementType.getRawClass())) {
-					elementTargetType = elementType;
+				while (this.processors.get(index) != candidate) {
+					index++;
 				}
 
-				result.add(invokeProcessorsFor(element, elementTargetType));
+				getBucket(buckets, index).set(i);
+			}
+		}
+
+		for (int index = 0; index < this.processors.size(); index++) {
+
+			BitSet bucket = buckets[index];
+
+			if (bucket == null || bucket.isEmpty()) {
+				continue;
+			}
+
+			ProcessorWrapper wrapper = this.processors.get(index);
+			int[] group = bucket.stream().toArray();
+			List<Object> input = new ArrayList<>(group.length);
+
+			for (int i : group) {
+				input.add(values[i]);
+			}
+
+			List<Object> output = invokeAll(wrapper, input);
+
+			Assert.state(output != null && output.size() == input.size(),
+					() -> String.format("Processor %s must return as many elements as handed to it!", wrapper));
+
+			for (int j = 0; j < group.length; j++) {
+
+				int i = group[j];
+				Object processed = output.get(j);
+
+				if (processed != values[i]) {
+					values[i] = processed;
+					rebucket(buckets, i, types[i], processed, index + 1);
+				}
 			}
+		}
 
-			ReflectionUtils.setField(RepresentationModelProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD, resources,
-					result);
+		for (int i = 0; i < size; i++) {
+			if (values[i] != elements[i]) {
+				replaceElement(resources, i, values[i]);
+			}
 		}
+	}
 
-		return (T) invokeProcessorsFor(Object.class.cast(value), referenceType);
+	/**
+	 * Moves the element with the given index into the buckets of the processors starting at the given index that support
+	 * its new value.
+	 *
+	 * @param buckets the element indexes per processor index, must not be {@literal null}.
+	 * @param element the index of the element that was replaced.
+	 * @param type must not be {@literal null}.
+	 * @param value the new value of the element, must not be {@literal null}.
+	 * @param startIndex the index of the first processor to consider.
+	 */
+	private void rebucket(BitSet[] buckets, int element, ResolvableType type, Object value, int startIndex) {
+
+		for (int index = startIndex; index < this.processors.size(); index++) {
+
+			if (this.processors.get(index).supports(type, value)) {
+				getBucket(buckets, index).set(element);
+			} else if (buckets[index] != null) {
+				buckets[index].clear(element);
+			}
+		}
+	}
+
+	private static BitSet getBucket(BitSet[] buckets, int index) {
+
+		BitSet bucket = buckets[index];
+
+		if (bucket == null) {
+			bucket = new BitSet();
+			buckets[index] = bucket;
+		}
+
+		return bucket;
+	}
+
+	/**
+	 * Invokes the processor wrapped by the given {@link ProcessorWrapper} for the given object, reporting the invocation to
+	 * the currently installed {@link HypermediaMetrics} and {@link HypermediaEvents}.
+	 *
+	 * @param wrapper must not be {@literal null}.
+	 * @param object
+	 * @return
+	 */
+	private static Object invoke(ProcessorWrapper wrapper, Object object) {
+
+		HypermediaMetrics metrics = HypermediaMetricsHolder.getMetrics();
+		Object event = HypermediaEvents.beginProcessorInvocation();
+
+		if (!metrics.isEnabled() && event == null) {
+			return wrapper.invokeProcessor(object);
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return wrapper.invokeProcessor(object);
+		} finally {
+			metrics.recordProcessorInvocation(wrapper.getProcessorType(), System.nanoTime() - start);
+			HypermediaEvents.commitProcessorInvocation(event, wrapper.getProcessorType(), 1);
+		}
+	}
+
+	/**
+	 * Invokes the processor wrapped by the given {@link ProcessorWrapper} for all of the given objects, reporting the
+	 * invocation to the currently installed {@link HypermediaMetrics} and {@link HypermediaEvents}.
+	 *
+	 * @param wrapper must not be {@literal null}.
+	 * @param objects must not be {@literal null}.
+	 * @return
+	 */
+	private static List<Object> invokeAll(ProcessorWrapper wrapper, List<Object> objects) {
+
+		HypermediaMetrics metrics = HypermediaMetricsHolder.getMetrics();
+		Object event = HypermediaEvents.beginProcessorInvocation();
+
+		if (!metrics.isEnabled() && event == null) {
+			return wrapper.invokeProcessors(objects);
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return wrapper.invokeProcessors(objects);
+		} finally {
+			metrics.recordProcessorInvocation(wrapper.getProcessorType(), System.nanoTime() - start);
+			HypermediaEvents.commitProcessorInvocation(event, wrapper.getProcessorType(), objects.size());
+		}
+	}
+
+	/**
+	 * Replaces the element at the given index of the given {@link CollectionModel}'s content in place.
+	 *
+	 * @param resources must not be {@literal null}.
+	 * @param index the index of the element to replace.
+	 * @param element the new element.
+	 */
+	private static void replaceElement(CollectionModel<?> resources, int index, Object element) {
+		CollectionModelAccessor.replaceContentElement(resources, index, element);
 	}
 
 	/**
-	 * Invokes all registered {@link RepresentationModelProcessor}s registered for the given {@link ResolvableType}.
+	 * Invokes all registered {@link RepresentationModelProcessor}s registered for the given {@link ResolvableType}. The
+	 * applicable processors are looked up from a dispatch table keyed by the type information the
+	 * {@link ProcessorWrapper}s base their decision on. In case a processor returns a different object than it was
+	 * handed, the remaining processors are selected by inspecting the new value.
 	 *
 	 * @param value the object to process
 	 * @param type
@@ -135,18 +342,95 @@ public class RepresentationModelProcessorInvoker {
 	 */
 	private Object invokeProcessorsFor(Object value, ResolvableType type) {
 
+		List<ProcessorWrapper> candidates = dispatchTable.computeIfAbsent(DispatchKey.of(type, value),
+				it -> findProcessors(type, value, 0));
+
 		Object currentValue = value;
 
-		// Process actual value
-		for (RepresentationModelProcessorInvoker.ProcessorWrapper wrapper : this.processors) {
+		for (ProcessorWrapper wrapper : candidates) {
+
+			Object processed = invoke(wrapper, currentValue);
+
+			if (processed != currentValue) {
+				return invokeProcessorsFor(processed, type, processors.indexOf(wrapper) + 1);
+			}
+		}
+
+		return currentValue;
+	}
+
+	/**
+	 * Invokes all registered {@link RepresentationModelProcessor}s starting at the given index that support the given
+	 * value and {@link ResolvableType}.
+	 *
+	 * @param value the object to process
+	 * @param type
+	 * @param startIndex the index of the first processor to consider.
+	 * @return
+	 */
+	private Object invokeProcessorsFor(Object value, ResolvableType type, int startIndex) {
+
+		Object currentValue = value;
+
+		for (ProcessorWrapper wrapper : this.processors.subList(startIndex, this.processors.size())) {
 			if (wrapper.supports(type, currentValue)) {
-				currentValue = wrapper.invokeProcessor(currentValue);
+				currentValue = invoke(wrapper, currentValue);
 			}
 		}
 
 		return currentValue;
 	}
 
+	/**
+	 * Returns all {@link ProcessorWrapper}s starting at the given index supporting the given value and
+	 * {@link ResolvableType} in invocation order.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @param startIndex the index of the first processor to consider.
+	 * @return
+	 */
+	private List<ProcessorWrapper> findProcessors(ResolvableType type, Object value, int startIndex) {
+
+		List<ProcessorWrapper> result = new ArrayList<>();
+
+		for (ProcessorWrapper wrapper : this.processors.subList(startIndex, this.processors.size())) {
+			if (wrapper.supports(type, value)) {
+				result.add(wrapper);
+			}
+		}
+
+		return result.isEmpty() ? Collections.emptyList() : result;
+	}
+
+	/**
+	 * Returns whether a processor declared for the given target type applies to the given value of the given reference
+	 * type. Applies the same rules the {@link RepresentationModelProcessor}s are selected by, i.e. for {@link EntityModel}
+	 * and {@link CollectionModel} targets, the type of the content or the first element respectively is considered, too.
+	 * The result only depends on the type information captured by a {@link DispatchKey}.
+	 *
+	 * @param targetType the type the processor is declared for, must not be {@literal null}.
+	 * @param type the reference type of the value, must not be {@literal null}.
+	 * @param value the value to be processed, can be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public static boolean supports(ResolvableType targetType, ResolvableType type, Object value) {
+
+		Assert.notNull(targetType, "Target type must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		Class<?> rawType = getRawType(targetType);
+
+		if (EntityModel.class.isAssignableFrom(rawType)) {
+			return ResourceProcessorWrapper.supports(targetType, type, value);
+		} else if (CollectionModel.class.isAssignableFrom(rawType)) {
+			return ResourcesProcessorWrapper.supports(targetType, type, value);
+		}
+
+		return DefaultProcessorWrapper.supports(targetType, type);
+	}
+
 	private static boolean isRawTypeAssignable(ResolvableType left, Class<?> right) {
 		return getRawType(left).isAssignableFrom(right);
 	}
@@ -182,6 +466,22 @@ public class RepresentationModelProcessorInvoker {
 		 * @param object
 		 */
 		<S> S invokeProcessor(S object);
+
+		/**
+		 * Performs the invocation of the processor for all of the given objects. Implementations can be sure
+		 * {@link #supports(ResolvableType, Object)} has been called for all of them before and returned {@literal true}.
+		 *
+		 * @param objects will never be {@literal null} or empty.
+		 * @return the processed objects in the order of the given ones.
+		 */
+		List<Object> invokeProcessors(List<Object> objects);
+
+		/**
+		 * Returns the type of the underlying processor.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		Class<?> getProcessorType();
 	}
 
 	/**
@@ -213,6 +513,10 @@ public class RepresentationModelProcessorInvoker {
 		 */
 		@Override
 		public boolean supports(ResolvableType type, Object value) {
+			return supports(targetType, type);
+		}
+
+		static boolean supports(ResolvableType targetType, ResolvableType type) {
 			return isRawTypeAssignable(targetType, getRawType(type));
 		}
 
@@ -227,6 +531,46 @@ public class RepresentationModelProcessorInvoker {
 					.process((RepresentationModel<?>) object);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker.ProcessorWrapper#invokeProcessors(java.util.List)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public List<Object> invokeProcessors(List<Object> objects) {
+
+			if (processor instanceof BatchRepresentationModelProcessor) {
+				return ((BatchRepresentationModelProcessor<RepresentationModel<?>>) processor)
+						.processAll((List<RepresentationModel<?>>) (List<?>) objects);
+			}
+
+			List<Object> result = new ArrayList<>(objects.size());
+
+			for (Object object : objects) {
+				result.add(invokeProcessor(object));
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker.ProcessorWrapper#getProcessorType()
+		 */
+		@Override
+		public Class<?> getProcessorType() {
+			return processor.getClass();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return processor.toString();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.core.Ordered#getOrder()
@@ -269,12 +613,17 @@ public class RepresentationModelProcessorInvoker {
 		 */
 		@Override
 		public boolean supports(ResolvableType type, Object value) {
+			return supports(getTargetType(), type, value);
+		}
+
+		static boolean supports(ResolvableType targetType, ResolvableType type, Object value) {
 
 			if (!RepresentationModelProcessorHandlerMethodReturnValueHandler.RESOURCE_TYPE.isAssignableFrom(type)) {
 				return false;
 			}
 
-			return super.supports(type, value) && isValueTypeMatch((EntityModel<?>) value, getTargetType());
+			return DefaultProcessorWrapper.supports(targetType, type)
+					&& isValueTypeMatch((EntityModel<?>) value, targetType);
 		}
 
 		/**
@@ -341,12 +690,17 @@ public class RepresentationModelProcessorInvoker {
 		 */
 		@Override
 		public boolean supports(ResolvableType type, Object value) {
+			return supports(getTargetType(), type, value);
+		}
+
+		static boolean supports(ResolvableType targetType, ResolvableType type, Object value) {
 
 			if (!RepresentationModelProcessorHandlerMethodReturnValueHandler.RESOURCES_TYPE.isAssignableFrom(type)) {
 				return false;
 			}
 
-			return super.supports(type, value) && isValueTypeMatch((CollectionModel<?>) value, getTargetType());
+			return DefaultProcessorWrapper.supports(targetType, type)
+					&& isValueTypeMatch((CollectionModel<?>) value, targetType);
 		}
 
 		/**
@@ -427,6 +781,60 @@ public class RepresentationModelProcessorInvoker {
 		}
 	}
 
+	/**
+	 * Key for the dispatch table of processors. Captures all the type information the {@link ProcessorWrapper}s inspect
+	 * in {@link ProcessorWrapper#supports(ResolvableType, Object)}: the raw reference type, the type of the value, and
+	 * for {@link EntityModel}s and {@link CollectionModel}s the type of the content or first element respectively, as
+	 * well as the type of the content of that element.
+	 *
+	 * @since 1.0
+	 */
+	@Value
+	public static class DispatchKey {
+
+		Class<?> referenceType;
+		Class<?> valueType;
+		Class<?> contentType;
+		Class<?> nestedContentType;
+
+		/**
+		 * Creates the {@link DispatchKey} for the given reference type and value.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param value can be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public static DispatchKey of(ResolvableType type, Object value) {
+
+			Class<?> contentType = null;
+			Class<?> nestedContentType = null;
+
+			if (value instanceof EntityModel) {
+
+				contentType = typeOf(((EntityModel<?>) value).getContent());
+
+			} else if (value instanceof CollectionModel) {
+
+				Collection<?> content = ((CollectionModel<?>) value).getContent();
+				Object element = content.isEmpty() ? null : content.iterator().next();
+
+				contentType = typeOf(element);
+
+				if (element instanceof EntityModel) {
+					nestedContentType = typeOf(((EntityModel<?>) element).getContent());
+				} else if (element instanceof EmbeddedWrapper) {
+					nestedContentType = ((EmbeddedWrapper) element).getRelTargetType();
+				}
+			}
+
+			return new DispatchKey(getRawType(type), typeOf(value), contentType, nestedContentType);
+		}
+
+		private static Class<?> typeOf(Object value) {
+			return value == null ? null : value.getClass();
+		}
+	}
+
 	/**
 	 * Helper extension of {@link AnnotationAwareOrderComparator} to make {@link #getOrder(Object)} public to allow it
 	 * being used in a standalone fashion.
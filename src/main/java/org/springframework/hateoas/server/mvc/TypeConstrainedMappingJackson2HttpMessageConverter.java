@@ -15,12 +15,33 @@
  */
 package org.springframework.hateoas.server.mvc;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.util.List;
 
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.hateoas.server.core.ETagGenerator;
+import org.springframework.hateoas.server.core.RenderedRepresentationCache;
+import org.springframework.hateoas.support.HypermediaEvents;
+import org.springframework.hateoas.support.HypermediaMetrics;
+import org.springframework.hateoas.support.HypermediaMetricsHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -34,6 +55,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
 
 	private final Class<?> type;
+	private RenderedRepresentationCache cache;
+	private ETagGenerator eTagGenerator;
 
 	/**
 	 * Creates a new {@link TypeConstrainedMappingJackson2HttpMessageConverter} for the given type.
@@ -60,6 +83,27 @@ public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJ
 		setObjectMapper(objectMapper);
 	}
 
+	/**
+	 * Configures the {@link RenderedRepresentationCache} to look up the representations of models registered as cacheable
+	 * from when writing them for a Spring MVC request.
+	 *
+	 * @param cache can be {@literal null}.
+	 */
+	public void setRenderedRepresentationCache(RenderedRepresentationCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Configures the {@link ETagGenerator} to compute strong {@literal ETag}s for the representations written for Spring
+	 * MVC {@literal GET} and {@literal HEAD} requests. Matching {@literal If-None-Match} requests will be answered with
+	 * {@literal 304 Not Modified}. As the header has to be written before the body, the representation is buffered.
+	 *
+	 * @param eTagGenerator can be {@literal null}.
+	 */
+	public void setETagGenerator(ETagGenerator eTagGenerator) {
+		this.eTagGenerator = eTagGenerator;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.http.converter.json.MappingJackson2HttpMessageConverter#canRead(java.lang.Class, org.springframework.http.MediaType)
@@ -87,4 +131,191 @@ public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJ
 	public boolean canWrite(Class<?> clazz, MediaType mediaType) {
 		return type.isAssignableFrom(clazz) && super.canWrite(clazz, mediaType);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#writeInternal(java.lang.Object, java.lang.reflect.Type, org.springframework.http.HttpOutputMessage)
+	 */
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+
+		HypermediaMetrics metrics = HypermediaMetricsHolder.getMetrics();
+		Object event = HypermediaEvents.beginSerialization();
+
+		if (!metrics.isEnabled() && event == null) {
+
+			writeRepresentation(object, type, outputMessage, false);
+			return;
+		}
+
+		long start = System.nanoTime();
+		long bytes = 0;
+
+		try {
+			bytes = writeRepresentation(object, type, outputMessage, event != null);
+		} finally {
+
+			MediaType contentType = outputMessage.getHeaders().getContentType();
+
+			metrics.recordSerialization(contentType, System.nanoTime() - start);
+			HypermediaEvents.commitSerialization(event, contentType, object.getClass(), bytes);
+		}
+	}
+
+	/**
+	 * Writes the representation of the given object, considering the {@link RenderedRepresentationCache} and
+	 * {@literal ETag} computation if configured.
+	 *
+	 * @param object must not be {@literal null}.
+	 * @param type can be {@literal null}.
+	 * @param outputMessage must not be {@literal null}.
+	 * @param countBytes whether to count the bytes written in case the representation is streamed.
+	 * @return the number of bytes written, {@literal -1} if not counted.
+	 * @throws IOException
+	 */
+	private long writeRepresentation(Object object, Type type, HttpOutputMessage outputMessage, boolean countBytes)
+			throws IOException {
+
+		MediaType contentType = outputMessage.getHeaders().getContentType();
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		boolean cacheable = cache != null && contentType != null && attributes != null && cache.isCacheable(object);
+		HttpServletRequest request = getConditionalRequest(attributes, outputMessage);
+
+		if (!cacheable && request == null) {
+
+			if (!countBytes) {
+
+				super.writeInternal(object, type, outputMessage);
+				return -1;
+			}
+
+			CountingOutputStream body = new CountingOutputStream(outputMessage.getBody());
+			writeTo(object, type, outputMessage, body);
+
+			return body.count;
+		}
+
+		String baseUri = cacheable ? UriComponentsBuilderFactory.getBaseUri().toString() : null;
+		byte[] representation = cacheable //
+				? lookupOrRender(object, type, contentType, baseUri, outputMessage) //
+				: render(object, type, outputMessage);
+
+		if (request != null) {
+
+			String eTag = cacheable ? cache.getETag(object, contentType, baseUri, eTagGenerator) : null;
+
+			if (eTag == null) {
+				eTag = eTagGenerator.forRepresentation(representation);
+			}
+
+			outputMessage.getHeaders().setETag(eTag);
+
+			if (eTagGenerator.isNotModified(eTag, new ServletServerHttpRequest(request).getHeaders().getIfNoneMatch())) {
+
+				((ServerHttpResponse) outputMessage).setStatusCode(HttpStatus.NOT_MODIFIED);
+				return 0;
+			}
+		}
+
+		outputMessage.getBody().write(representation);
+
+		return representation.length;
+	}
+
+	/**
+	 * Returns the current {@link HttpServletRequest} if an {@literal ETag} shall be computed for the response to it, i.e.
+	 * for {@literal 200 OK} responses to requests with one of the methods the {@link ETagGenerator} applies to.
+	 *
+	 * @param attributes can be {@literal null}.
+	 * @param outputMessage must not be {@literal null}.
+	 * @return the request or {@literal null} if no {@literal ETag} shall be computed.
+	 */
+	private HttpServletRequest getConditionalRequest(RequestAttributes attributes, HttpOutputMessage outputMessage) {
+
+		if (eTagGenerator == null //
+				|| !(attributes instanceof ServletRequestAttributes) //
+				|| !(outputMessage instanceof ServletServerHttpResponse) //
+				|| ((ServletServerHttpResponse) outputMessage).getServletResponse().getStatus() != HttpStatus.OK.value() //
+				|| outputMessage.getHeaders().getETag() != null) {
+			return null;
+		}
+
+		HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+
+		return eTagGenerator.appliesTo(HttpMethod.resolve(request.getMethod())) ? request : null;
+	}
+
+	private byte[] lookupOrRender(Object object, Type type, MediaType contentType, String baseUri,
+			HttpOutputMessage outputMessage) throws IOException {
+
+		byte[] representation = cache.get(object, contentType, baseUri);
+
+		if (representation == null) {
+
+			representation = render(object, type, outputMessage);
+			cache.put(object, contentType, baseUri, representation);
+		}
+
+		return representation;
+	}
+
+	private byte[] render(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		writeTo(object, type, outputMessage, body);
+
+		return body.toByteArray();
+	}
+
+	private void writeTo(Object object, Type type, HttpOutputMessage outputMessage, OutputStream body)
+			throws IOException {
+
+		super.writeInternal(object, type, new HttpOutputMessage() {
+
+			@Override
+			public OutputStream getBody() {
+				return body;
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return outputMessage.getHeaders();
+			}
+		});
+	}
+
+	/**
+	 * {@link FilterOutputStream} counting the bytes written to the delegate.
+	 */
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		CountingOutputStream(OutputStream delegate) {
+			super(delegate);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterOutputStream#write(int)
+		 */
+		@Override
+		public void write(int b) throws IOException {
+
+			out.write(b);
+			count++;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterOutputStream#write(byte[], int, int)
+		 */
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+
+			out.write(b, off, len);
+			count += len;
+		}
+	}
 }
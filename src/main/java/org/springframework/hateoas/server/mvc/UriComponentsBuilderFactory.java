@@ -28,14 +28,17 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Factory class for {@link UriComponentsBuilder} instances caching the lookups to avoid unnecessary subsequent lookups.
+ * The base URI, including the evaluation of forwarded headers, is resolved once per request and shared by all link
+ * builders, {@link org.springframework.hateoas.server.EntityLinks} and curie providers.
  *
  * @author Michal Stochmialek
  * @author Oliver Gierke
  */
-class UriComponentsBuilderFactory {
+public class UriComponentsBuilderFactory {
 
 	static final String REQUEST_ATTRIBUTES_MISSING = "Could not find current request via RequestContextHolder. Is this being called from a Spring MVC handler?";
 	private static final String CACHE_KEY = UriComponentsBuilderFactory.class.getName() + "#BUILDER_CACHE";
+	private static final URI ROOT = URI.create("/");
 
 	/**
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with scheme tweaked in case the
@@ -47,17 +50,42 @@ class UriComponentsBuilderFactory {
 	 */
 	public static UriComponentsBuilder getBuilder() {
 
-		if (RequestContextHolder.getRequestAttributes() == null) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
 			return UriComponentsBuilder.fromPath("/");
 		}
 
-		URI baseUri = getCachedBaseUri();
+		URI baseUri = (URI) attributes.getAttribute(CACHE_KEY, RequestAttributes.SCOPE_REQUEST);
 
 		return baseUri != null //
 				? UriComponentsBuilder.fromUri(baseUri) //
 				: cacheBaseUri(ServletUriComponentsBuilder.fromServletMapping(getCurrentRequest()));
 	}
 
+	/**
+	 * Returns the base URI of the current request, i.e. the one {@link #getBuilder()} starts from. It is resolved once per
+	 * request and returned as is for subsequent calls. If no {@link RequestContextHolder} exists (you're outside a Spring
+	 * Web call), {@literal /} is returned.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	public static URI getBaseUri() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return ROOT;
+		}
+
+		URI baseUri = (URI) attributes.getAttribute(CACHE_KEY, RequestAttributes.SCOPE_REQUEST);
+
+		return baseUri != null //
+				? baseUri //
+				: cacheBaseUri(ServletUriComponentsBuilder.fromServletMapping(getCurrentRequest())).build().toUri();
+	}
+
 	/**
 	 * Copy of {@link ServletUriComponentsBuilder#getCurrentRequest()} until SPR-10110 gets fixed.
 	 *
@@ -91,8 +119,4 @@ class UriComponentsBuilderFactory {
 
 		return builder;
 	}
-
-	private static URI getCachedBaseUri() {
-		return (URI) getRequestAttributes().getAttribute(CACHE_KEY, RequestAttributes.SCOPE_REQUEST);
-	}
 }
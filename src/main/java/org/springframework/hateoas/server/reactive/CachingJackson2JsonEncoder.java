@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import static org.springframework.hateoas.server.reactive.HypermediaWebFilter.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.hateoas.server.core.RenderedRepresentationCache;
+import org.springframework.hateoas.server.reactive.ETagEncoderHttpMessageWriter.ETagHint;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link Jackson2JsonEncoder} to look up the representations of models registered with a
+ * {@link RenderedRepresentationCache} instead of rendering them again for every request. Only applies to single values
+ * written for a server request, as the representations are cached per base URI of the request.
+ *
+ * @see RenderedRepresentationCache
+ * @since 1.0
+ */
+public class CachingJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+	private static final String REQUEST_HINT = CachingJackson2JsonEncoder.class.getName() + ".REQUEST";
+
+	private final RenderedRepresentationCache cache;
+
+	/**
+	 * Creates a new {@link CachingJackson2JsonEncoder} for the given {@link ObjectMapper},
+	 * {@link RenderedRepresentationCache} and {@link MimeType}s.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param cache must not be {@literal null}.
+	 * @param mimeTypes
+	 */
+	public CachingJackson2JsonEncoder(ObjectMapper mapper, RenderedRepresentationCache cache, MimeType... mimeTypes) {
+
+		super(mapper, mimeTypes);
+
+		Assert.notNull(cache, "RenderedRepresentationCache must not be null!");
+
+		this.cache = cache;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.codec.json.AbstractJackson2Encoder#getEncodeHints(org.springframework.core.ResolvableType, org.springframework.core.ResolvableType, org.springframework.http.MediaType, org.springframework.http.server.reactive.ServerHttpRequest, org.springframework.http.server.reactive.ServerHttpResponse)
+	 */
+	@Override
+	public Map<String, Object> getEncodeHints(ResolvableType actualType, ResolvableType elementType,
+			MediaType mediaType, ServerHttpRequest request, ServerHttpResponse response) {
+
+		Map<String, Object> hints = new HashMap<>(
+				super.getEncodeHints(actualType, elementType, mediaType, request, response));
+
+		// The base URI is only derived from the request for values registered as cacheable
+		hints.put(REQUEST_HINT, request);
+
+		return hints;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.codec.json.AbstractJackson2Encoder#encode(org.reactivestreams.Publisher, org.springframework.core.io.buffer.DataBufferFactory, org.springframework.core.ResolvableType, org.springframework.util.MimeType, java.util.Map)
+	 */
+	@Override
+	public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+			ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+
+		Object request = hints == null ? null : hints.get(REQUEST_HINT);
+
+		if (!(inputStream instanceof Mono) || mimeType == null || !(request instanceof ServerHttpRequest)) {
+			return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+		}
+
+		return Mono.subscriberContext().flatMapMany(context -> Mono.from(inputStream).flatMapMany(value -> {
+
+			if (!cache.isCacheable(value)) {
+				return super.encode(Mono.just(value), bufferFactory, elementType, mimeType, hints);
+			}
+
+			ServerWebExchange exchange = context.getOrDefault(SERVER_WEB_EXCHANGE, null);
+			String baseUri = WebFluxLinkBuilder.getBaseUri(exchange, (ServerHttpRequest) request);
+			byte[] representation = cache.get(value, mimeType, baseUri);
+
+			if (representation != null) {
+
+				exposeETag(value, mimeType, baseUri, hints);
+
+				return Mono.just(bufferFactory.wrap(representation));
+			}
+
+			return DataBufferUtils.join(super.encode(Mono.just(value), bufferFactory, elementType, mimeType, hints)) //
+					.map(buffer -> {
+
+						byte[] bytes = new byte[buffer.readableByteCount()];
+						buffer.read(bytes);
+						DataBufferUtils.release(buffer);
+
+						cache.put(value, mimeType, baseUri, bytes);
+						exposeETag(value, mimeType, baseUri, hints);
+
+						return bufferFactory.wrap(bytes);
+					});
+		}));
+	}
+
+	/**
+	 * Hands the {@literal ETag} kept alongside the cached representation to an {@link ETagEncoderHttpMessageWriter}, so
+	 * that it doesn't have to digest the representation for every response.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param mimeType must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 * @param hints must not be {@literal null}.
+	 */
+	private void exposeETag(Object value, MimeType mimeType, String baseUri, Map<String, Object> hints) {
+
+		Object hint = hints.get(ETagEncoderHttpMessageWriter.ETAG_HINT);
+
+		if (hint instanceof ETagHint) {
+
+			ETagHint eTagHint = (ETagHint) hint;
+			eTagHint.setETag(cache.getETag(value, mimeType, baseUri, eTagHint.getGenerator()));
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.hateoas.server.core.ETagGenerator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EncoderHttpMessageWriter} to digest the encoded body of {@literal 200 OK} responses to {@literal GET} and
+ * {@literal HEAD} requests, add a strong {@literal ETag} header computed by an {@link ETagGenerator} and answer matching
+ * {@literal If-None-Match} requests with {@literal 304 Not Modified}. As the header has to be written before the body,
+ * the encoded body is joined into a single {@link DataBuffer}. Responses already carrying an {@literal ETag} or a
+ * different status code are written unchanged. If the body is served from a
+ * {@link org.springframework.hateoas.server.core.RenderedRepresentationCache} by a {@link CachingJackson2JsonEncoder},
+ * the {@literal ETag} kept alongside the cached representation is used.
+ *
+ * @see ETagGenerator
+ * @since 1.0
+ */
+public class ETagEncoderHttpMessageWriter<T> extends EncoderHttpMessageWriter<T> {
+
+	static final String ETAG_HINT = ETagEncoderHttpMessageWriter.class.getName() + ".ETAG";
+
+	private final ETagGenerator generator;
+
+	/**
+	 * Creates a new {@link ETagEncoderHttpMessageWriter} for the given {@link Encoder} and {@link ETagGenerator}.
+	 *
+	 * @param encoder must not be {@literal null}.
+	 * @param generator must not be {@literal null}.
+	 */
+	public ETagEncoderHttpMessageWriter(Encoder<T> encoder, ETagGenerator generator) {
+
+		super(encoder);
+
+		Assert.notNull(generator, "ETagGenerator must not be null!");
+
+		this.generator = generator;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.codec.EncoderHttpMessageWriter#write(org.reactivestreams.Publisher, org.springframework.core.ResolvableType, org.springframework.core.ResolvableType, org.springframework.http.MediaType, org.springframework.http.server.reactive.ServerHttpRequest, org.springframework.http.server.reactive.ServerHttpResponse, java.util.Map)
+	 */
+	@Override
+	public Mono<Void> write(Publisher<? extends T> inputStream, ResolvableType actualType, ResolvableType elementType,
+			MediaType mediaType, ServerHttpRequest request, ServerHttpResponse response, Map<String, Object> hints) {
+
+		HttpStatus status = response.getStatusCode();
+
+		if (!generator.appliesTo(request.getMethod()) //
+				|| status != null && status != HttpStatus.OK //
+				|| response.getHeaders().getETag() != null) {
+			return super.write(inputStream, actualType, elementType, mediaType, request, response, hints);
+		}
+
+		ETagHint hint = new ETagHint(generator);
+		Map<String, Object> eTagHints = new HashMap<>(hints);
+		eTagHints.put(ETAG_HINT, hint);
+
+		ServerHttpResponse conditional = new ServerHttpResponseDecorator(response) {
+
+			@Override
+			public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+
+				return DataBufferUtils.join(body).flatMap(buffer -> {
+
+					String eTag = hint.getETag();
+
+					if (eTag == null) {
+
+						MessageDigest digest = generator.newDigest();
+						digest.update(buffer.asByteBuffer());
+
+						eTag = generator.toETag(digest);
+					}
+
+					getHeaders().setETag(eTag);
+
+					if (generator.isNotModified(eTag, request.getHeaders().getIfNoneMatch())) {
+
+						DataBufferUtils.release(buffer);
+						getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+						setStatusCode(HttpStatus.NOT_MODIFIED);
+
+						return setComplete();
+					}
+
+					return super.writeWith(Mono.just(buffer));
+				});
+			}
+		};
+
+		return super.write(inputStream, actualType, elementType, mediaType, request, conditional, eTagHints);
+	}
+
+	/**
+	 * Encoding hint handed to the {@link Encoder} to let it provide an already known {@literal ETag} for the body it
+	 * encodes, e.g. one kept alongside a cached representation.
+	 */
+	static class ETagHint {
+
+		private final ETagGenerator generator;
+		private volatile String eTag;
+
+		ETagHint(ETagGenerator generator) {
+			this.generator = generator;
+		}
+
+		ETagGenerator getGenerator() {
+			return generator;
+		}
+
+		String getETag() {
+			return eTag;
+		}
+
+		void setETag(String eTag) {
+			this.eTag = eTag;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.RepresentationModelProcessor;
+
+/**
+ * Reactive variant of {@link RepresentationModelProcessor} to process the {@link RepresentationModel} instances
+ * returned from Spring WebFlux controllers without blocking.
+ *
+ * @see RepresentationModelProcessor
+ * @since 1.0
+ */
+public interface ReactiveRepresentationModelProcessor<T extends RepresentationModel<?>> {
+
+	/**
+	 * Processes the given representation model, add links, alter the domain data etc.
+	 *
+	 * @param resource will never be {@literal null}.
+	 * @return a {@link Mono} emitting the processed resource, must not be {@literal null} or empty.
+	 */
+	Mono<T> process(T resource);
+}
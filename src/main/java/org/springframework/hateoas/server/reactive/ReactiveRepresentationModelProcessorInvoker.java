@@ -0,0 +1,320 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.CollectionModelAccessor;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.RepresentationModelProcessor;
+import org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker;
+import org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker.DispatchKey;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Component to invoke all {@link RepresentationModelProcessor}s and {@link ReactiveRepresentationModelProcessor}s
+ * registered for values of type {@link RepresentationModel} in a reactive pipeline. Both kinds of processors are
+ * selected by the same rules, i.e. for {@link CollectionModel}s, the processors are applied to each of the elements
+ * first and to the model itself afterwards, and processors declared for a {@link CollectionModel} of a particular element
+ * type only apply to models containing such elements.
+ * <p>
+ * Note, that the {@link Ordered} order is only honored within the synchronous and within the reactive processors. All
+ * synchronous processors are invoked before any reactive one, independent of their order.
+ *
+ * @see ReactiveRepresentationModelProcessor
+ * @since 1.0
+ */
+public class ReactiveRepresentationModelProcessorInvoker {
+
+	static final int DEFAULT_CONCURRENCY = 16;
+
+	private final RepresentationModelProcessorInvoker invoker;
+	private final List<ReactiveProcessorWrapper> processors;
+	private final Map<DispatchKey, List<ReactiveProcessorWrapper>> dispatchTable = new ConcurrentReferenceHashMap<>();
+	private final int concurrency;
+
+	/**
+	 * Creates a new {@link ReactiveRepresentationModelProcessorInvoker} for the given {@link RepresentationModelProcessor}s
+	 * and {@link ReactiveRepresentationModelProcessor}s.
+	 *
+	 * @param processors must not be {@literal null}.
+	 * @param reactiveProcessors must not be {@literal null}.
+	 */
+	public ReactiveRepresentationModelProcessorInvoker(Collection<RepresentationModelProcessor<?>> processors,
+			Collection<ReactiveRepresentationModelProcessor<?>> reactiveProcessors) {
+		this(processors, reactiveProcessors, DEFAULT_CONCURRENCY);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveRepresentationModelProcessorInvoker} for the given {@link RepresentationModelProcessor}s
+	 * and {@link ReactiveRepresentationModelProcessor}s processing at most the given number of elements of a {@link Flux}
+	 * concurrently.
+	 *
+	 * @param processors must not be {@literal null}.
+	 * @param reactiveProcessors must not be {@literal null}.
+	 * @param concurrency the maximum number of {@link Flux} elements to process concurrently, must be greater than zero.
+	 */
+	public ReactiveRepresentationModelProcessorInvoker(Collection<RepresentationModelProcessor<?>> processors,
+			Collection<ReactiveRepresentationModelProcessor<?>> reactiveProcessors, int concurrency) {
+
+		Assert.notNull(processors, "RepresentationModelProcessors must not be null!");
+		Assert.notNull(reactiveProcessors, "ReactiveRepresentationModelProcessors must not be null!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+
+		List<ReactiveRepresentationModelProcessor<?>> sorted = new ArrayList<>(reactiveProcessors);
+		AnnotationAwareOrderComparator.sort(sorted);
+
+		this.invoker = new RepresentationModelProcessorInvoker(processors);
+		this.processors = new ArrayList<>(sorted.size());
+		this.concurrency = concurrency;
+
+		for (ReactiveRepresentationModelProcessor<?> processor : sorted) {
+			this.processors.add(new ReactiveProcessorWrapper(processor));
+		}
+	}
+
+	/**
+	 * Invokes all processors registered for the type of the given value.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	public <T extends RepresentationModel<T>> Mono<T> invokeProcessorsFor(T value) {
+
+		Assert.notNull(value, "Value must not be null!");
+
+		Mono<T> result = Mono.fromSupplier(() -> invoker.invokeProcessorsFor(value));
+
+		return processors.isEmpty() ? result : result.flatMap(this::invokeReactiveProcessorsFor);
+	}
+
+	/**
+	 * Invokes all processors registered for the type of the value emitted by the given {@link Mono}.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	public <T extends RepresentationModel<T>> Mono<T> invokeProcessorsFor(Mono<T> value) {
+
+		Assert.notNull(value, "Value must not be null!");
+
+		return value.flatMap(this::invokeProcessorsFor);
+	}
+
+	/**
+	 * Invokes all processors registered for the types of the values emitted by the given {@link Flux}. Elements are
+	 * processed concurrently, bounded by the configured concurrency, but emitted in their original order.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return
+	 */
+	public <T extends RepresentationModel<T>> Flux<T> invokeProcessorsFor(Flux<T> values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		return values.flatMapSequential(this::invokeProcessorsFor, concurrency);
+	}
+
+	/**
+	 * Invokes all processors registered for the type of the given value if it is a {@link RepresentationModel}.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return a {@link Mono} emitting the processed value or the given one if it's not a {@link RepresentationModel}.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	Mono<Object> invokeProcessorsForObject(Object value) {
+
+		return value instanceof RepresentationModel //
+				? invokeProcessorsFor((RepresentationModel) value) //
+				: Mono.just(value);
+	}
+
+	/**
+	 * Invokes all processors registered for the types of the {@link RepresentationModel}s emitted by the given
+	 * {@link Flux} preserving the order of the elements.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return
+	 */
+	Flux<Object> invokeProcessorsForObjects(Flux<?> values) {
+		return values.flatMapSequential(this::invokeProcessorsForObject, concurrency);
+	}
+
+	/**
+	 * Invokes the {@link ReactiveRepresentationModelProcessor}s for the elements of the given value in case it's a
+	 * {@link CollectionModel} and for the value itself.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends RepresentationModel<T>> Mono<T> invokeReactiveProcessorsFor(T value) {
+
+		Mono<T> result = value instanceof CollectionModel //
+				? invokeReactiveProcessorsForElements((CollectionModel<?>) value).thenReturn(value) //
+				: Mono.just(value);
+
+		return result.flatMap(it -> invokeReactiveProcessorsFor(it, ResolvableType.forClass(it.getClass()))) //
+				.map(it -> (T) it);
+	}
+
+	/**
+	 * Invokes the {@link ReactiveRepresentationModelProcessor}s for all elements of the given {@link CollectionModel},
+	 * bounded by the configured concurrency, and replaces the elements a processor returned a different instance for.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @return
+	 */
+	private Mono<Void> invokeReactiveProcessorsForElements(CollectionModel<?> model) {
+
+		List<Object> elements = new ArrayList<>(model.getContent());
+
+		if (elements.isEmpty()) {
+			return Mono.empty();
+		}
+
+		ResolvableType declaredType = ResolvableType.forClass(CollectionModel.class, model.getClass()).getGeneric(0);
+
+		return Flux.fromIterable(elements) //
+				.flatMapSequential(it -> invokeReactiveProcessorsFor(it, getElementType(declaredType, it)), concurrency) //
+				.collectList() //
+				.doOnNext(processed -> {
+
+					for (int i = 0; i < processed.size(); i++) {
+						if (processed.get(i) != elements.get(i)) {
+							CollectionModelAccessor.replaceContentElement(model, i, processed.get(i));
+						}
+					}
+				}) //
+				.then();
+	}
+
+	/**
+	 * Invokes all {@link ReactiveRepresentationModelProcessor}s applicable to the given value and reference type. The
+	 * processors are looked up from a dispatch table keyed by the same type information the synchronous processors are
+	 * selected by. In case a processor returns a different object than it was handed, the remaining processors are
+	 * selected by inspecting the new value.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private Mono<Object> invokeReactiveProcessorsFor(Object value, ResolvableType type) {
+
+		List<ReactiveProcessorWrapper> candidates = dispatchTable.computeIfAbsent(DispatchKey.of(type, value),
+				it -> findProcessors(type, value, 0));
+
+		return invoke(candidates, 0, value, type);
+	}
+
+	private Mono<Object> invoke(List<ReactiveProcessorWrapper> candidates, int position, Object value,
+			ResolvableType type) {
+
+		if (position == candidates.size()) {
+			return Mono.just(value);
+		}
+
+		ReactiveProcessorWrapper wrapper = candidates.get(position);
+
+		return wrapper.invokeProcessor(value).flatMap(processed -> processed == value //
+				? invoke(candidates, position + 1, value, type) //
+				: invoke(findProcessors(type, processed, processors.indexOf(wrapper) + 1), 0, processed, type));
+	}
+
+	/**
+	 * Returns all {@link ReactiveProcessorWrapper}s starting at the given index supporting the given value and
+	 * {@link ResolvableType} in invocation order.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @param startIndex the index of the first processor to consider.
+	 * @return
+	 */
+	private List<ReactiveProcessorWrapper> findProcessors(ResolvableType type, Object value, int startIndex) {
+
+		List<ReactiveProcessorWrapper> result = new ArrayList<>();
+
+		for (ReactiveProcessorWrapper wrapper : processors.subList(startIndex, processors.size())) {
+			if (wrapper.supports(type, value)) {
+				result.add(wrapper);
+			}
+		}
+
+		return result.isEmpty() ? Collections.emptyList() : result;
+	}
+
+	/**
+	 * Returns the reference type to select the processors for the given element by. That's the declared element type of
+	 * the {@link CollectionModel} unless the element is of a different type.
+	 *
+	 * @param declaredType must not be {@literal null}.
+	 * @param element must not be {@literal null}.
+	 * @return
+	 */
+	private static ResolvableType getElementType(ResolvableType declaredType, Object element) {
+
+		Class<?> rawType = declaredType.getRawClass();
+
+		return element.getClass().equals(rawType) ? declaredType : ResolvableType.forClass(element.getClass());
+	}
+
+	/**
+	 * Wrapper for {@link ReactiveRepresentationModelProcessor}s to determine whether they apply to a given value based on
+	 * their generic type, following the rules of {@link RepresentationModelProcessorInvoker}.
+	 */
+	private static class ReactiveProcessorWrapper {
+
+		private final ReactiveRepresentationModelProcessor<?> processor;
+		private final ResolvableType targetType;
+
+		ReactiveProcessorWrapper(ReactiveRepresentationModelProcessor<?> processor) {
+
+			this.processor = processor;
+			this.targetType = ResolvableType.forClass(ReactiveRepresentationModelProcessor.class, processor.getClass())
+					.getGeneric(0);
+		}
+
+		boolean supports(ResolvableType type, Object value) {
+			return RepresentationModelProcessorInvoker.supports(targetType, type, value);
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Mono<Object> invokeProcessor(Object value) {
+			return ((ReactiveRepresentationModelProcessor) processor).process((RepresentationModel<?>) value);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return processor.toString();
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.Ordered;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.RepresentationModelProcessor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * {@link HandlerResultHandler} to post-process the {@link RepresentationModel}s returned from WebFlux controller methods
+ * either directly, as body of an {@link HttpEntity} or wrapped into a {@link Mono} or {@link Flux} using the configured
+ * {@link RepresentationModelProcessor}s and {@link ReactiveRepresentationModelProcessor}s before handing the result to
+ * the given delegate {@link HandlerResultHandler}. Has to be registered with a higher precedence than the delegate,
+ * which is why it defaults to the delegate's order minus one.
+ *
+ * @see ReactiveRepresentationModelProcessorInvoker
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class RepresentationModelProcessorHandlerResultHandler implements HandlerResultHandler, Ordered {
+
+	private final @NonNull HandlerResultHandler delegate;
+	private final @NonNull ReactiveRepresentationModelProcessorInvoker invoker;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.HandlerResultHandler#supports(org.springframework.web.reactive.HandlerResult)
+	 */
+	@Override
+	public boolean supports(HandlerResult result) {
+		return delegate.supports(result);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.HandlerResultHandler#handleResult(org.springframework.web.server.ServerWebExchange, org.springframework.web.reactive.HandlerResult)
+	 */
+	@Override
+	public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+
+		Object returnValue = result.getReturnValue();
+
+		// Plain values have to be handed to the delegate as is, so we defer invoking it
+		if (returnValue instanceof RepresentationModel || returnValue instanceof HttpEntity) {
+			return invokeProcessors(returnValue) //
+					.flatMap(it -> delegate.handleResult(exchange, withReturnValue(result, it)));
+		}
+
+		if (returnValue instanceof Mono) {
+			return delegate.handleResult(exchange,
+					withReturnValue(result, ((Mono<?>) returnValue).flatMap(this::invokeProcessors)));
+		}
+
+		if (returnValue instanceof Flux) {
+			return delegate.handleResult(exchange,
+					withReturnValue(result, invoker.invokeProcessorsForObjects((Flux<?>) returnValue)));
+		}
+
+		return delegate.handleResult(exchange, result);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+
+		int order = delegate instanceof Ordered ? ((Ordered) delegate).getOrder() : Ordered.LOWEST_PRECEDENCE;
+
+		return order == Ordered.HIGHEST_PRECEDENCE ? order : order - 1;
+	}
+
+	/**
+	 * Invokes the processors for the given value. {@link RepresentationModel}s used as body of an {@link HttpEntity} or
+	 * {@link ResponseEntity} are processed and re-wrapped into an entity with the original headers and status code.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	private Mono<Object> invokeProcessors(Object value) {
+
+		if (!(value instanceof HttpEntity)) {
+			return invoker.invokeProcessorsForObject(value);
+		}
+
+		HttpEntity<?> entity = (HttpEntity<?>) value;
+		Object body = entity.getBody();
+
+		if (!(body instanceof RepresentationModel)) {
+			return Mono.just(value);
+		}
+
+		return invoker.invokeProcessorsForObject(body).map(it -> rewrap(it, entity));
+	}
+
+	/**
+	 * Re-wraps the given processed body into an {@link HttpEntity} or {@link ResponseEntity} carrying the headers and
+	 * status code of the given original one.
+	 *
+	 * @param body the post-processed body.
+	 * @param original the original entity, must not be {@literal null}.
+	 * @return
+	 */
+	private static HttpEntity<?> rewrap(Object body, HttpEntity<?> original) {
+
+		if (original instanceof ResponseEntity) {
+			ResponseEntity<?> source = (ResponseEntity<?>) original;
+			return new ResponseEntity<>(body, source.getHeaders(), source.getStatusCode());
+		}
+
+		return new HttpEntity<>(body, original.getHeaders());
+	}
+
+	private static HandlerResult withReturnValue(HandlerResult result, Object returnValue) {
+		return new HandlerResult(result.getHandler(), returnValue, result.getReturnTypeSource(), result.getBindingContext());
+	}
+}
@@ -31,6 +31,7 @@ import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.server.core.DummyInvocationUtils;
 import org.springframework.hateoas.server.core.TemplateVariableAwareLinkBuilderSupport;
 import org.springframework.hateoas.server.core.WebHandler;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.util.Assert;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.util.UriComponents;
@@ -45,6 +46,9 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<WebFluxLinkBuilder> {
 
+	private static final String CACHE_KEY = WebFluxLinkBuilder.class.getName() + "#BUILDER_CACHE";
+	private static final String BASE_URI_CACHE_KEY = WebFluxLinkBuilder.class.getName() + "#BASE_URI_CACHE";
+
 	private WebFluxLinkBuilder(UriComponentsBuilder builder, TemplateVariables variables, List<Affordance> affordances) {
 		super(builder, variables, affordances);
 	}
@@ -226,15 +230,53 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 	}
 
 	/**
-	 * Returns a {@link UriComponentsBuilder} obtained from the {@link ServerWebExchange}.
+	 * Returns a {@link UriComponentsBuilder} obtained from the {@link ServerWebExchange}. The request URI, including the
+	 * evaluation of forwarded headers, is resolved once per exchange and cached in its attributes.
 	 *
 	 * @param exchange
 	 */
 	private static UriComponentsBuilder getBuilder(ServerWebExchange exchange) {
 
-		return exchange == null //
-				? UriComponentsBuilder.fromPath("/") //
-				: UriComponentsBuilder.fromHttpRequest(exchange.getRequest());
+		if (exchange == null) {
+			return UriComponentsBuilder.fromPath("/");
+		}
+
+		return UriComponentsBuilder.newInstance().uriComponents(getRequestUri(exchange));
+	}
+
+	/**
+	 * Returns the base URI, i.e. the URI without path and query, of the request of the given {@link ServerWebExchange}.
+	 * Reuses the request URI components cached for link building and caches the result per exchange. Falls back to the
+	 * given {@link ServerHttpRequest} if no exchange is available.
+	 *
+	 * @param exchange can be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	static String getBaseUri(ServerWebExchange exchange, ServerHttpRequest request) {
+
+		if (exchange == null) {
+			return toBaseUri(UriComponentsBuilder.fromHttpRequest(request).build());
+		}
+
+		return (String) exchange.getAttributes().computeIfAbsent(BASE_URI_CACHE_KEY,
+				__ -> toBaseUri(getRequestUri(exchange)));
+	}
+
+	private static UriComponents getRequestUri(ServerWebExchange exchange) {
+
+		return (UriComponents) exchange.getAttributes().computeIfAbsent(CACHE_KEY,
+				__ -> UriComponentsBuilder.fromHttpRequest(exchange.getRequest()).build());
+	}
+
+	private static String toBaseUri(UriComponents components) {
+
+		return UriComponentsBuilder.newInstance() //
+				.uriComponents(components) //
+				.replacePath(null) //
+				.replaceQuery(null) //
+				.build() //
+				.toUriString();
 	}
 
 	private static Mono<WebFluxLinkBuilder> linkToInternal(Object invocation) {
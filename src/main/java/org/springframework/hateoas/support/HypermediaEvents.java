@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import java.lang.reflect.Method;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.MimeType;
+
+/**
+ * Emits Java Flight Recorder events for the hot paths of hypermedia processing. All events are disabled by default and
+ * have to be enabled explicitly in the recording settings, e.g. {@code org.springframework.hateoas.LinkCreation#enabled
+ * = true}. The {@code begin…} methods return {@literal null} if JFR is not available or the event is not enabled in any
+ * running recording, and the {@code commit…} methods ignore {@literal null} events. So unless an event is recorded,
+ * instrumenting a code path costs a single check.
+ * <p>
+ * The actual events live in a separate source folder ({@code src/main/java-jfr}) that is only compiled on JDK 11 and
+ * newer. They're loaded reflectively if present, so that this class can be compiled and used on JVMs without JFR
+ * support as well.
+ *
+ * @since 1.0
+ */
+public final class HypermediaEvents {
+
+	private static final Logger LOG = LoggerFactory.getLogger(HypermediaEvents.class);
+	private static final String FLIGHT_RECORDER_EVENTS = "org.springframework.hateoas.support.FlightRecorderEvents";
+	private static final Recorder RECORDER = loadRecorder();
+
+	private HypermediaEvents() {}
+
+	/**
+	 * Begins an event for the creation of a link pointing to a controller method.
+	 *
+	 * @return the event or {@literal null} if not recorded.
+	 */
+	public static Object beginLinkCreation() {
+		return RECORDER == null ? null : RECORDER.beginLinkCreation();
+	}
+
+	/**
+	 * Commits the given link creation event.
+	 *
+	 * @param event can be {@literal null}.
+	 * @param controller must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 */
+	public static void commitLinkCreation(Object event, Class<?> controller, Method method) {
+
+		if (event != null) {
+			RECORDER.commitLinkCreation(event, controller, method);
+		}
+	}
+
+	/**
+	 * Begins an event for the creation of an invocation recording proxy for a controller.
+	 *
+	 * @return the event or {@literal null} if not recorded.
+	 */
+	public static Object beginMethodOn() {
+		return RECORDER == null ? null : RECORDER.beginMethodOn();
+	}
+
+	/**
+	 * Commits the given proxy creation event.
+	 *
+	 * @param event can be {@literal null}.
+	 * @param controller must not be {@literal null}.
+	 */
+	public static void commitMethodOn(Object event, Class<?> controller) {
+
+		if (event != null) {
+			RECORDER.commitMethodOn(event, controller);
+		}
+	}
+
+	/**
+	 * Begins an event for the invocation of a {@link org.springframework.hateoas.server.RepresentationModelProcessor}.
+	 *
+	 * @return the event or {@literal null} if not recorded.
+	 */
+	public static Object beginProcessorInvocation() {
+		return RECORDER == null ? null : RECORDER.beginProcessorInvocation();
+	}
+
+	/**
+	 * Commits the given processor invocation event.
+	 *
+	 * @param event can be {@literal null}.
+	 * @param processor must not be {@literal null}.
+	 * @param elements the number of elements handed to the processor.
+	 */
+	public static void commitProcessorInvocation(Object event, Class<?> processor, int elements) {
+
+		if (event != null) {
+			RECORDER.commitProcessorInvocation(event, processor, elements);
+		}
+	}
+
+	/**
+	 * Begins an event for the serialization of a part of a HAL document.
+	 *
+	 * @return the event or {@literal null} if not recorded.
+	 */
+	public static Object beginHalSerialization() {
+		return RECORDER == null ? null : RECORDER.beginHalSerialization();
+	}
+
+	/**
+	 * Commits the given HAL serialization event.
+	 *
+	 * @param event can be {@literal null}.
+	 * @param part the name of the part serialized, e.g. {@code _links}.
+	 * @param elements the number of links or embedded elements serialized.
+	 * @param format the name of the data format written, can be {@literal null}.
+	 */
+	public static void commitHalSerialization(Object event, String part, int elements, String format) {
+
+		if (event != null) {
+			RECORDER.commitHalSerialization(event, part, elements, format);
+		}
+	}
+
+	/**
+	 * Begins an event for the serialization of a representation model by a message converter.
+	 *
+	 * @return the event or {@literal null} if not recorded.
+	 */
+	public static Object beginSerialization() {
+		return RECORDER == null ? null : RECORDER.beginSerialization();
+	}
+
+	/**
+	 * Commits the given serialization event.
+	 *
+	 * @param event can be {@literal null}.
+	 * @param mediaType can be {@literal null}.
+	 * @param type the type of the value serialized, must not be {@literal null}.
+	 * @param bytes the number of bytes written.
+	 */
+	public static void commitSerialization(Object event, MimeType mediaType, Class<?> type, long bytes) {
+
+		if (event != null) {
+			RECORDER.commitSerialization(event, mediaType, type, bytes);
+		}
+	}
+
+	/**
+	 * Begins an event for a single hop of a traversal.
+	 *
+	 * @return the event or {@literal null} if not recorded.
+	 */
+	public static Object beginTraversalHop() {
+		return RECORDER == null ? null : RECORDER.beginTraversalHop();
+	}
+
+	/**
+	 * Commits the given traversal hop event.
+	 *
+	 * @param event can be {@literal null}.
+	 * @param rel the relation followed, must not be {@literal null}.
+	 * @param uri the URI requested, must not be {@literal null}.
+	 */
+	public static void commitTraversalHop(Object event, String rel, String uri) {
+
+		if (event != null) {
+			RECORDER.commitTraversalHop(event, rel, uri);
+		}
+	}
+
+	private static Recorder loadRecorder() {
+
+		ClassLoader classLoader = HypermediaEvents.class.getClassLoader();
+
+		if (!ClassUtils.isPresent(FLIGHT_RECORDER_EVENTS, classLoader)) {
+
+			LOG.debug("Java Flight Recorder events not available, this build of Spring HATEOAS was compiled without them.");
+
+			return null;
+		}
+
+		return (Recorder) BeanUtils.instantiateClass(ClassUtils.resolveClassName(FLIGHT_RECORDER_EVENTS, classLoader));
+	}
+
+	/**
+	 * SPI implemented by the Java Flight Recorder backed events. Implementations must not allocate any event unless it is
+	 * actually recorded.
+	 */
+	interface Recorder {
+
+		Object beginLinkCreation();
+
+		void commitLinkCreation(Object event, Class<?> controller, Method method);
+
+		Object beginMethodOn();
+
+		void commitMethodOn(Object event, Class<?> controller);
+
+		Object beginProcessorInvocation();
+
+		void commitProcessorInvocation(Object event, Class<?> processor, int elements);
+
+		Object beginHalSerialization();
+
+		void commitHalSerialization(Object event, String part, int elements, String format);
+
+		Object beginSerialization();
+
+		void commitSerialization(Object event, MimeType mediaType, Class<?> type, long bytes);
+
+		Object beginTraversalHop();
+
+		void commitTraversalHop(Object event, String rel, String uri);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import org.springframework.util.MimeType;
+
+/**
+ * Callback to record the time spent in the hot paths of hypermedia processing, i.e. link creation, the invocation of
+ * {@link org.springframework.hateoas.server.RepresentationModelProcessor}s, the serialization of representation models
+ * and the hops of a {@link org.springframework.hateoas.client.Traverson}. All methods default to no-ops and callers are
+ * expected to check {@link #isEnabled()} before measuring anything, so that a disabled instance doesn't cause any
+ * overhead beyond that check. The instance to be used is looked up from {@link HypermediaMetricsHolder}.
+ *
+ * @since 1.0
+ * @see HypermediaMetricsHolder
+ */
+public interface HypermediaMetrics {
+
+	/**
+	 * {@link HypermediaMetrics} not recording anything.
+	 */
+	HypermediaMetrics NONE = new HypermediaMetrics() {};
+
+	/**
+	 * Returns whether the instance records anything at all.
+	 *
+	 * @return
+	 */
+	default boolean isEnabled() {
+		return false;
+	}
+
+	/**
+	 * Records the creation of a link pointing to a method of the given controller.
+	 *
+	 * @param controller will never be {@literal null}.
+	 * @param nanos the time it took to create the link in nanoseconds.
+	 */
+	default void recordLinkCreation(Class<?> controller, long nanos) {}
+
+	/**
+	 * Records the invocation of the given {@link org.springframework.hateoas.server.RepresentationModelProcessor} type.
+	 *
+	 * @param processor will never be {@literal null}.
+	 * @param nanos the time the processor took in nanoseconds.
+	 */
+	default void recordProcessorInvocation(Class<?> processor, long nanos) {}
+
+	/**
+	 * Records the serialization of a representation model into the given media type.
+	 *
+	 * @param mediaType can be {@literal null} in case the media type is unknown.
+	 * @param nanos the time the serialization took in nanoseconds.
+	 */
+	default void recordSerialization(MimeType mediaType, long nanos) {}
+
+	/**
+	 * Records a single hop of a traversal following the given relation.
+	 *
+	 * @param rel will never be {@literal null}.
+	 * @param nanos the time the hop took in nanoseconds.
+	 */
+	default void recordTraversalHop(String rel, long nanos) {}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import org.springframework.util.Assert;
+
+/**
+ * Holds the {@link HypermediaMetrics} used by the static entry points of Spring HATEOAS like link creation. Defaults to
+ * {@link HypermediaMetrics#NONE}.
+ * <p>
+ * The holder is global to the JVM (or rather the class loader Spring HATEOAS is loaded by) and not scoped to an
+ * application context. If multiple application contexts install metrics, the one started last wins for all of them, and
+ * shutting that one down resets the metrics to {@link HypermediaMetrics#NONE}, i.e. disables them for the contexts still
+ * running, too.
+ *
+ * @since 1.0
+ */
+public final class HypermediaMetricsHolder {
+
+	private static volatile HypermediaMetrics metrics = HypermediaMetrics.NONE;
+
+	private HypermediaMetricsHolder() {}
+
+	/**
+	 * Returns the currently installed {@link HypermediaMetrics}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static HypermediaMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Installs the given {@link HypermediaMetrics}.
+	 *
+	 * @param metrics must not be {@literal null}.
+	 */
+	public static void setMetrics(HypermediaMetrics metrics) {
+
+		Assert.notNull(metrics, "HypermediaMetrics must not be null!");
+
+		HypermediaMetricsHolder.metrics = metrics;
+	}
+
+	/**
+	 * Resets the installed {@link HypermediaMetrics} to {@link HypermediaMetrics#NONE}.
+	 */
+	public static void resetMetrics() {
+		metrics = HypermediaMetrics.NONE;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.hateoas.MediaTypes;
+
+/**
+ * Unit tests for {@link FlightRecorderEvents} emitted through {@link HypermediaEvents}.
+ */
+public class FlightRecorderEventsUnitTest {
+
+	@Test
+	public void stopsCreatingEventsOnceRecordingStopped() {
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable("org.springframework.hateoas.LinkCreation");
+			recording.start();
+
+			assertThat(HypermediaEvents.beginLinkCreation()).isNotNull();
+
+			recording.stop();
+
+			assertThat(HypermediaEvents.beginLinkCreation()).isNull();
+		}
+	}
+
+	@Test
+	public void recordsEnabledEvents() throws Exception {
+
+		Path file = Files.createTempFile("hateoas", ".jfr");
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable("org.springframework.hateoas.LinkCreation");
+			recording.enable("org.springframework.hateoas.Serialization");
+			recording.start();
+
+			Object creation = HypermediaEvents.beginLinkCreation();
+			HypermediaEvents.commitLinkCreation(creation, String.class, String.class.getMethod("length"));
+
+			Object serialization = HypermediaEvents.beginSerialization();
+			HypermediaEvents.commitSerialization(serialization, MediaTypes.HAL_JSON, String.class, 42);
+
+			Object hop = HypermediaEvents.beginTraversalHop();
+			HypermediaEvents.commitTraversalHop(hop, "movies", "/");
+
+			recording.stop();
+			recording.dump(file);
+
+			assertThat(creation).isNotNull();
+			assertThat(serialization).isNotNull();
+			assertThat(hop).isNull();
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+			assertThat(events).anySatisfy(it -> {
+				assertThat(it.getEventType().getName()).isEqualTo("org.springframework.hateoas.LinkCreation");
+				assertThat(it.getString("controller")).isEqualTo("java.lang.String");
+				assertThat(it.getString("method")).isEqualTo("length");
+			});
+
+			assertThat(events).anySatisfy(it -> {
+				assertThat(it.getEventType().getName()).isEqualTo("org.springframework.hateoas.Serialization");
+				assertThat(it.getString("mediaType")).isEqualTo("application/hal+json");
+				assertThat(it.getLong("bytes")).isEqualTo(42);
+			});
+
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
@@ -69,4 +69,15 @@ public class CollectionModelUnitTest {
 		assertThat(left).isNotEqualTo(right);
 		assertThat(right).isNotEqualTo(left);
 	}
+
+	@Test
+	public void replacesContentElementInPlace() {
+
+		CollectionModel<EntityModel<String>> model = new CollectionModel<>(foo);
+		EntityModel<String> replacement = new EntityModel<>("bar");
+
+		CollectionModelAccessor.replaceContentElement(model, 0, replacement);
+
+		assertThat(model.getContent()).containsExactly(replacement);
+	}
 }
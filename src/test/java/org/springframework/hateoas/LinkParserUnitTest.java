@@ -0,0 +1,265 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LinkParser}.
+ */
+public class LinkParserUnitTest {
+
+	static final String[] ATTRIBUTES = { "hreflang", "media", "title", "type", "deprecation", "profile", "name" };
+
+	@Test
+	public void parsesQuotedStringWithEscapedCharacters() {
+
+		Link link = Link.valueOf("</foo>;rel=\"foo\";title=\"Some \\\"quoted\\\" title, with comma; and semicolon\"");
+
+		assertThat(link.getTitle()).isEqualTo("Some \"quoted\" title, with comma; and semicolon");
+	}
+
+	@Test
+	public void parsesUnquotedValues() {
+
+		Link link = Link.valueOf("</foo>; rel=next; type=text/html");
+
+		assertThat(link.getRel()).isEqualTo(IanaLinkRelations.NEXT);
+		assertThat(link.getType()).isEqualTo("text/html");
+	}
+
+	@Test
+	public void createsLinkPerRelationForMultipleRels() {
+
+		Links links = Links.parse("</foo>;rel=\"start http://example.net/relation/other\";title=\"Foo\", </bar>;rel=next");
+
+		assertThat(links).containsExactly( //
+				new Link("/foo", "start").withTitle("Foo"), //
+				new Link("/foo", "http://example.net/relation/other").withTitle("Foo"), //
+				new Link("/bar", "next"));
+	}
+
+	@Test
+	public void ignoresExtensionAttributesAndUsesFirstOccurrence() {
+
+		Link link = Link.valueOf("</foo>;anchor=\"#bar\";rel=\"foo\";rel=\"bar\";title=\"first\";title=\"second\";x-ext");
+
+		assertThat(link).isEqualTo(new Link("/foo", "foo").withTitle("first"));
+	}
+
+	@Test
+	public void prefersExtendedTitle() {
+
+		Link link = Link.valueOf("</foo>;rel=\"foo\";title=\"plain\";title*=UTF-8'de'n%c3%a4chstes%20Kapitel");
+
+		assertThat(link.getTitle()).isEqualTo("nächstes Kapitel");
+	}
+
+	@Test
+	public void treatsParameterNamesCaseInsensitively() {
+		assertThat(Link.valueOf("</foo>;REL=\"foo\";Title=\"bar\"")).isEqualTo(new Link("/foo", "foo").withTitle("bar"));
+	}
+
+	@Test
+	public void skipsMalformedElements() {
+
+		assertThat(Links.parse("foo, </foo>;rel=\"foo\", </bar;rel=\"bar\", </baz>;rel=\"baz\" garbage, </qux>;rel=qux")) //
+				.containsExactly(new Link("/foo", "foo"), new Link("/qux", "qux"));
+	}
+
+	@Test
+	public void rejectsUnterminatedQuotedString() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> Link.valueOf("</foo>;rel=\"foo"));
+	}
+
+	@Test
+	public void rejectsMultipleLinksForSingleLink() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> Link.valueOf("</foo>;rel=\"foo\", </bar>;rel=\"bar\""));
+	}
+
+	@Test
+	public void rejectsLinkWithoutRelInLinks() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> Links.parse("</foo>;rel=\"foo\", </bar>;title=\"bar\""));
+	}
+
+	@Test
+	public void matchesAttributeNamesIndependentlyOfDefaultLocale() {
+
+		Locale locale = Locale.getDefault();
+
+		try {
+
+			Locale.setDefault(new Locale("tr", "TR"));
+
+			Link link = Links.parse("</foo>;rel=\"foo\";TITLE=\"bar\"").getRequiredLink("foo");
+
+			assertThat(link.getTitle()).isEqualTo("bar");
+
+		} finally {
+			Locale.setDefault(locale);
+		}
+	}
+
+	@Test
+	public void producesSameResultsAsRegexBasedParserForRandomHeaders() {
+
+		Random random = new Random(42);
+
+		for (int i = 0; i < 5000; i++) {
+
+			String header = randomHeader(random);
+
+			assertThat(Links.parse(header)).as(header).isEqualTo(LegacyParser.parse(header));
+		}
+	}
+
+	@Test
+	public void onlyThrowsIllegalArgumentExceptionForRandomInput() {
+
+		Random random = new Random(42);
+		String alphabet = "<>;,=\"\\ \t/abcrel*'%";
+
+		for (int i = 0; i < 20000; i++) {
+
+			StringBuilder builder = new StringBuilder();
+
+			for (int j = 0, length = random.nextInt(40); j < length; j++) {
+				builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+
+			try {
+				Links.parse(builder.toString());
+			} catch (IllegalArgumentException o_O) {
+				// expected for input without rel
+			}
+		}
+	}
+
+	private static String randomHeader(Random random) {
+
+		List<String> elements = new ArrayList<>();
+
+		for (int i = 0, links = 1 + random.nextInt(4); i < links; i++) {
+
+			StringBuilder builder = new StringBuilder("<") //
+					.append(randomHref(random)) //
+					.append(">;") //
+					.append(random.nextBoolean() ? " " : "") //
+					.append("rel=\"").append(randomValue(random, false)).append("\"");
+
+			for (String attribute : ATTRIBUTES) {
+				if (random.nextInt(3) == 0) {
+					builder.append(";").append(attribute).append("=\"").append(randomValue(random, true)).append("\"");
+				}
+			}
+
+			elements.add(builder.toString());
+		}
+
+		return String.join(random.nextBoolean() ? "," : ", ", elements);
+	}
+
+	private static String randomHref(Random random) {
+
+		String[] hrefs = { "/", "/foo", "/foo/bar", "http://localhost:8080/foo?page=0&size=10", "/foo{?page,size}",
+				"/foo/{id}", "https://example.com/a,b" };
+
+		return hrefs[random.nextInt(hrefs.length)];
+	}
+
+	private static String randomValue(Random random, boolean allowWhitespace) {
+
+		String first = "abcdefghijklmnopqrstuvwxyz";
+		String rest = first + "0123456789.-" + (allowWhitespace ? " " : "");
+
+		StringBuilder builder = new StringBuilder().append(first.charAt(random.nextInt(first.length())));
+
+		for (int i = 0, length = random.nextInt(12); i < length; i++) {
+			builder.append(rest.charAt(random.nextInt(rest.length())));
+		}
+
+		return builder.toString().trim();
+	}
+
+	/**
+	 * The regular expression based parsing formerly used by {@link Links#parse(String)} and {@link Link#valueOf(String)}.
+	 */
+	static class LegacyParser {
+
+		private static final Pattern LINK_HEADER_PATTERN = Pattern.compile("(<[^>]*>(;\\s*\\w+=\"[^\"]*\")+)");
+		private static final Pattern URI_AND_ATTRIBUTES_PATTERN = Pattern.compile("<(.*)>;(.*)");
+		private static final String URI_PATTERN = "(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
+		private static final Pattern KEY_AND_VALUE_PATTERN = Pattern
+				.compile("(\\w+)=\"(\\p{Lower}[\\p{Lower}\\p{Digit}.\\-\\s]*|" + URI_PATTERN + ")\"");
+
+		static Links parse(String source) {
+
+			Matcher matcher = LINK_HEADER_PATTERN.matcher(source);
+			List<Link> links = new ArrayList<>();
+
+			while (matcher.find()) {
+				links.add(valueOf(matcher.group()));
+			}
+
+			return Links.of(links);
+		}
+
+		static Link valueOf(String element) {
+
+			Matcher matcher = URI_AND_ATTRIBUTES_PATTERN.matcher(element);
+
+			if (!matcher.find()) {
+				throw new IllegalArgumentException();
+			}
+
+			Map<String, String> attributes = new HashMap<>();
+			Matcher attributeMatcher = KEY_AND_VALUE_PATTERN.matcher(matcher.group(2));
+
+			while (attributeMatcher.find()) {
+				attributes.put(attributeMatcher.group(1), attributeMatcher.group(2));
+			}
+
+			Link link = new Link(matcher.group(1), attributes.get("rel"));
+
+			link = attributes.containsKey("hreflang") ? link.withHreflang(attributes.get("hreflang")) : link;
+			link = attributes.containsKey("media") ? link.withMedia(attributes.get("media")) : link;
+			link = attributes.containsKey("title") ? link.withTitle(attributes.get("title")) : link;
+			link = attributes.containsKey("type") ? link.withType(attributes.get("type")) : link;
+			link = attributes.containsKey("deprecation") ? link.withDeprecation(attributes.get("deprecation")) : link;
+			link = attributes.containsKey("profile") ? link.withProfile(attributes.get("profile")) : link;
+			link = attributes.containsKey("name") ? link.withName(attributes.get("name")) : link;
+
+			return link;
+		}
+	}
+}
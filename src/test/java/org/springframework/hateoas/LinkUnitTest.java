@@ -132,7 +132,7 @@ public class LinkUnitTest {
 
 			softly.assertThat(Link.valueOf("</something>;rel=\"foo\"")).isEqualTo(new Link("/something", "foo"));
 			softly.assertThat(Link.valueOf("</something>;rel=\"foo\";title=\"Some title\""))
-					.isEqualTo(new Link("/something", "foo"));
+					.isEqualTo(new Link("/something", "foo").withTitle("Some title"));
 			softly.assertThat(Link.valueOf("</customer/1>;" //
 					+ "rel=\"self\";" //
 					+ "hreflang=\"en\";" //
@@ -451,4 +451,64 @@ public class LinkUnitTest {
 		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> new Link("/{segment}/path").toUri());
 	}
 
+	@Test
+	public void builderCreatesLinkEqualToChainedCopies() {
+
+		Link link = Link.builder() //
+				.href("/customer/1") //
+				.rel("customer") //
+				.hreflang("en") //
+				.media("pdf") //
+				.title("title") //
+				.type("type") //
+				.deprecation("deprecation") //
+				.profile("profile") //
+				.name("name") //
+				.build();
+
+		assertThat(link).isEqualTo(new Link("/customer/1", "customer") //
+				.withHreflang("en") //
+				.withMedia("pdf") //
+				.withTitle("title") //
+				.withType("type") //
+				.withDeprecation("deprecation") //
+				.withProfile("profile") //
+				.withName("name"));
+	}
+
+	@Test
+	public void builderDefaultsToSelfRelAndNormalizesHref() {
+
+		Link link = Link.builder().template(new UriTemplate("/foo{?bar}")).build();
+
+		assertThat(link.getRel()).isEqualTo(IanaLinkRelations.SELF);
+		assertThat(link.getHref()).isEqualTo("/foo{?bar}");
+		assertThat(link.isTemplated()).isTrue();
+	}
+
+	@Test
+	public void builderDoesNotShareAffordancesWithBuiltLinks() {
+
+		Link.Builder builder = Link.builder().href("/foo").affordance(TEST_AFFORDANCE);
+		Link first = builder.build();
+
+		builder.affordance(TEST_AFFORDANCE);
+
+		assertThat(first.getAffordances()).hasSize(1);
+		assertThat(builder.build().getAffordances()).hasSize(2);
+	}
+
+	@Test
+	public void builderRejectsMissingHref() {
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> Link.builder().rel("foo").build());
+	}
+
+	@Test
+	public void escapesQuotesAndBackslashesInAttributes() {
+
+		Link link = new Link("/foo", "foo").withTitle("Some \"quoted\" \\ title");
+
+		assertThat(link.toString()).isEqualTo("</foo>;rel=\"foo\";title=\"Some \\\"quoted\\\" \\\\ title\"");
+		assertThat(Link.valueOf(link.toString())).isEqualTo(link);
+	}
 }
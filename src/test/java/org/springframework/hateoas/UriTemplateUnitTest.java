@@ -17,6 +17,10 @@ package org.springframework.hateoas;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -336,6 +340,66 @@ public class UriTemplateUnitTest {
 		assertThat(expandedTemplate).isEqualTo("/foo?bar=barExpanded&foobar=singleValue");
 	}
 
+	@Test
+	public void recomputesDerivedStateOnDeserialization() throws Exception {
+
+		UriTemplate template = new UriTemplate("/foo/{id}{?bar}");
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		try (ObjectOutputStream stream = new ObjectOutputStream(output)) {
+			stream.writeObject(template);
+		}
+
+		try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+
+			UriTemplate result = (UriTemplate) stream.readObject();
+
+			assertThat(result.toString()).isEqualTo("/foo/{id}{?bar}");
+			assertThat(result.getVariableNames()).containsExactly("id", "bar");
+			assertThat(result.getRequiredVariables()).extracting(TemplateVariable::getName).containsExactly("id");
+		}
+	}
+
+	@Test
+	public void precomputesVariableNames() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}{?bar,baz}");
+
+		assertThat(template.getVariableNames()).containsExactly("id", "bar", "baz");
+		assertThat(template.getVariableNames()).isSameAs(template.getVariableNames());
+		assertThat(template.isTemplated()).isTrue();
+
+		assertThatExceptionOfType(UnsupportedOperationException.class) //
+				.isThrownBy(() -> template.getVariableNames().add("foo"));
+	}
+
+	@Test
+	public void partitionsRequiredAndOptionalVariables() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}{?bar}");
+
+		assertThat(template.getRequiredVariables()).extracting(TemplateVariable::getName).containsExactly("id");
+		assertThat(template.getOptionalVariables()).extracting(TemplateVariable::getName).containsExactly("bar");
+	}
+
+	@Test
+	public void rendersContinuedRequestParameterForBaseUriWithQuery() {
+
+		assertThat(new UriTemplate("/foo?bar=baz{?qux}").toString()).isEqualTo("/foo?bar=baz{&qux}");
+		assertThat(new UriTemplate("/foo?{?qux}").toString()).isEqualTo("/foo?{?qux}");
+		assertThat(new UriTemplate("/foo#bar{?qux}").toString()).isEqualTo("/foo#bar{?qux}");
+	}
+
+	@Test
+	public void nonTemplatedUriIsNotTemplated() {
+
+		UriTemplate template = new UriTemplate("/foo");
+
+		assertThat(template.isTemplated()).isFalse();
+		assertThat(template.getVariableNames()).isEmpty();
+		assertThat(template.toString()).isEqualTo("/foo");
+	}
+
 	private static void assertVariables(UriTemplate template, TemplateVariable... variables) {
 		assertVariables(template, Arrays.asList(variables));
 	}
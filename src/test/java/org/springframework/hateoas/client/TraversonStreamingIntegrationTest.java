@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.hateoas.MediaTypes;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Integration tests for {@link Traverson} following links in responses sent with chunked transfer encoding.
+ */
+public class TraversonStreamingIntegrationTest {
+
+	HttpServer server;
+	URI baseUri;
+
+	@Before
+	public void setUp() throws IOException {
+
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		baseUri = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+
+		server.createContext("/", exchange -> respondChunked(exchange,
+				"{ \"name\" : \"root\", \"_links\" : { \"next\" : { \"href\" : \"" + baseUri + "next\" } } }"));
+		server.createContext("/next", exchange -> respondChunked(exchange, "{ \"name\" : \"next\" }"));
+		server.start();
+	}
+
+	@After
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	public void followsLinkDiscoveredInChunkedResponse() {
+
+		Traverson traverson = new Traverson(baseUri, MediaTypes.HAL_JSON);
+
+		assertThat(traverson.follow("next").<String> toObject("$.name")).isEqualTo("next");
+	}
+
+	@Test
+	public void followsJsonPathInChunkedResponse() {
+
+		Traverson traverson = new Traverson(baseUri, MediaTypes.HAL_JSON);
+
+		assertThat(traverson.follow("$._links.next.href").<String> toObject("$.name")).isEqualTo("next");
+	}
+
+	@Test
+	public void reportsResponseIfLinkCannotBeFound() {
+
+		Traverson traverson = new Traverson(baseUri, MediaTypes.HAL_JSON);
+
+		assertThatExceptionOfType(IllegalStateException.class) //
+				.isThrownBy(() -> traverson.follow("missing").asLink()) //
+				.withMessageContaining("missing") //
+				.withMessageContaining("\"name\" : \"root\"");
+	}
+
+	private static void respondChunked(HttpExchange exchange, String body) throws IOException {
+
+		exchange.getResponseHeaders().set("Content-Type", MediaTypes.HAL_JSON_VALUE);
+		exchange.sendResponseHeaders(200, 0);
+
+		try (OutputStream stream = exchange.getResponseBody()) {
+
+			byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+			// write in multiple chunks
+			stream.write(bytes, 0, bytes.length / 2);
+			stream.flush();
+			stream.write(bytes, bytes.length / 2, bytes.length - bytes.length / 2);
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.server.ExposesResourceFor;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Unit tests for {@link HypermediaObjectMappers}.
+ */
+public class HypermediaObjectMappersUnitTest {
+
+	HypermediaMappingInformation hypermedia = () -> Collections.singletonList(MediaTypes.HAL_JSON);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void derivesBinaryMapperFromTemplateMapper() throws Exception {
+
+		ObjectMapper template = new ObjectMapper();
+		template.setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+		template.registerModule(new SimpleModule().addSerializer(Money.class, new MoneySerializer()));
+
+		HypermediaObjectMappers mappers = new HypermediaObjectMappers(template, mock(ObjectProvider.class));
+		ObjectMapper binary = mappers.getObjectMapper(hypermedia, MediaTypes.HAL_CBOR, CBORFactory::new);
+
+		assertThat(binary.getFactory()).isInstanceOf(CBORFactory.class);
+
+		JsonNode node = new ObjectMapper(new CBORFactory()).readTree(binary.writeValueAsBytes(new Order(new Money(42))));
+
+		assertThat(node.get("total_price").asText()).isEqualTo("EUR 42");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void derivesMixinsAndInclusionFromTemplateMapper() throws Exception {
+
+		ObjectMapper template = new ObjectMapper();
+		template.addMixIn(Product.class, ProductMixin.class);
+		template.setSerializationInclusion(Include.NON_NULL);
+
+		HypermediaObjectMappers mappers = new HypermediaObjectMappers(template, mock(ObjectProvider.class));
+		ObjectMapper binary = mappers.getObjectMapper(hypermedia, MediaTypes.HAL_CBOR, CBORFactory::new);
+
+		JsonNode node = new ObjectMapper(new CBORFactory()).readTree(binary.writeValueAsBytes(new Product("Foo", null)));
+
+		assertThat(node.get("title").asText()).isEqualTo("Foo");
+		assertThat(node.has("name")).isFalse();
+		assertThat(node.has("description")).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doesNotChangeTemplateMapperWhenConfiguringBinaryOne() {
+
+		ObjectMapper template = new ObjectMapper();
+
+		HypermediaObjectMappers mappers = new HypermediaObjectMappers(template, mock(ObjectProvider.class));
+		ObjectMapper binary = mappers.getObjectMapper(hypermedia, MediaTypes.HAL_CBOR, CBORFactory::new);
+
+		assertThat(binary.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)).isFalse();
+		assertThat(template.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)).isTrue();
+		assertThat(template.getFactory()).isNotInstanceOf(CBORFactory.class);
+	}
+
+	@Test
+	public void prewarmsMappersForExposedDomainTypes() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("prewarming", new ObjectMapperPrewarming());
+		beanFactory.registerBeanDefinition("controller", new RootBeanDefinition(OrderController.class));
+
+		HypermediaObjectMappers mappers = new HypermediaObjectMappers(new ObjectMapper(),
+				Collections.singletonList(hypermedia));
+		mappers.setBeanFactory(beanFactory);
+		mappers.afterSingletonsInstantiated();
+
+		assertThat(getCachedSerializerCount(mappers)).isGreaterThan(0);
+	}
+
+	@Test
+	public void doesNotPrewarmMappersWithoutPrewarmingBean() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("controller", new RootBeanDefinition(OrderController.class));
+
+		HypermediaObjectMappers mappers = new HypermediaObjectMappers(new ObjectMapper(),
+				Collections.singletonList(hypermedia));
+		mappers.setBeanFactory(beanFactory);
+		mappers.afterSingletonsInstantiated();
+
+		assertThat(getCachedSerializerCount(mappers)).isEqualTo(0);
+	}
+
+	private int getCachedSerializerCount(HypermediaObjectMappers mappers) {
+		return ((DefaultSerializerProvider) mappers.getObjectMapper(hypermedia).getSerializerProvider())
+				.cachedSerializersCount();
+	}
+
+	@ExposesResourceFor(Order.class)
+	static class OrderController {}
+
+	@Value
+	static class Order {
+		Money totalPrice;
+	}
+
+	@Value
+	static class Money {
+		int amount;
+	}
+
+	@Value
+	static class Product {
+		String name, description;
+	}
+
+	abstract static class ProductMixin {
+
+		@JsonProperty("title")
+		abstract String getName();
+	}
+
+	@SuppressWarnings("serial")
+	static class MoneySerializer extends StdSerializer<Money> {
+
+		MoneySerializer() {
+			super(Money.class);
+		}
+
+		@Override
+		public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			gen.writeString("EUR " + value.getAmount());
+		}
+	}
+}
@@ -35,6 +35,8 @@ import org.springframework.http.converter.json.AbstractJackson2HttpMessageConver
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * Tests the registration of media types by the {@link HypermediaRestTemplateBeanPostProcessor}.
  *
@@ -113,6 +115,45 @@ public class HypermediaRestTemplateBeanPostProcessorTest {
 		});
 	}
 
+	@Test
+	public void shouldRegisterBinaryHalMessageConverters() {
+
+		withContext(HalCborAndSmileConfig.class, context -> {
+
+			assertThat(lookupSupportedHypermediaTypes(context.getBean(RestTemplate.class))) //
+					.containsExactlyInAnyOrder( //
+							MediaTypes.HAL_JSON, //
+							MediaTypes.HAL_JSON_UTF8, //
+							MediaTypes.HAL_CBOR, //
+							MediaTypes.HAL_SMILE, //
+							MediaType.APPLICATION_JSON, //
+							MediaType.parseMediaType("application/*+json"));
+		});
+	}
+
+	@Test
+	public void sharesObjectMapperAcrossRestTemplates() {
+
+		withContext(MultipleRestTemplatesConfig.class, context -> {
+
+			ObjectMapper first = lookupHalObjectMapper(context.getBean("restTemplate", RestTemplate.class));
+			ObjectMapper second = lookupHalObjectMapper(context.getBean("otherRestTemplate", RestTemplate.class));
+
+			assertThat(first).isSameAs(second);
+		});
+	}
+
+	private ObjectMapper lookupHalObjectMapper(RestTemplate restTemplate) {
+
+		return restTemplate.getMessageConverters().stream() //
+				.filter(MappingJackson2HttpMessageConverter.class::isInstance) //
+				.map(MappingJackson2HttpMessageConverter.class::cast) //
+				.filter(it -> it.getSupportedMediaTypes().contains(MediaTypes.HAL_JSON)) //
+				.map(MappingJackson2HttpMessageConverter::getObjectMapper) //
+				.findFirst() //
+				.orElseThrow(IllegalStateException::new);
+	}
+
 	private List<MediaType> lookupSupportedHypermediaTypes(RestTemplate restTemplate) {
 
 		return restTemplate.getMessageConverters().stream().filter(MappingJackson2HttpMessageConverter.class::isInstance)
@@ -132,6 +173,20 @@ public class HypermediaRestTemplateBeanPostProcessorTest {
 	@EnableHypermediaSupport(type = HypermediaType.HAL)
 	static class HalConfig extends BaseConfig {}
 
+	@Configuration
+	@EnableHypermediaSupport(type = { HypermediaType.HAL, HypermediaType.HAL_CBOR, HypermediaType.HAL_SMILE })
+	static class HalCborAndSmileConfig extends BaseConfig {}
+
+	@Configuration
+	@EnableHypermediaSupport(type = HypermediaType.HAL)
+	static class MultipleRestTemplatesConfig extends BaseConfig {
+
+		@Bean
+		RestTemplate otherRestTemplate() {
+			return new RestTemplate();
+		}
+	}
+
 	@Configuration
 	@EnableHypermediaSupport(type = { HypermediaType.HAL, HypermediaType.COLLECTION_JSON })
 	static class HalAndCollectionJsonConfig extends BaseConfig {}
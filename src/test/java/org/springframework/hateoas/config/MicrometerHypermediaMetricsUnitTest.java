@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.hateoas.support.ContextTester.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.support.HypermediaMetrics;
+import org.springframework.hateoas.support.HypermediaMetricsHolder;
+
+/**
+ * Unit tests for {@link MicrometerHypermediaMetrics} and {@link HypermediaMetricsInstaller}.
+ */
+public class MicrometerHypermediaMetricsUnitTest {
+
+	MeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	public void recordsTimersTaggedByTheGivenValues() {
+
+		MicrometerHypermediaMetrics metrics = new MicrometerHypermediaMetrics(registry);
+
+		metrics.recordLinkCreation(String.class, 1000);
+		metrics.recordLinkCreation(String.class, 2000);
+		metrics.recordSerialization(MediaTypes.HAL_JSON_UTF8, 1000);
+		metrics.recordSerialization(null, 1000);
+		metrics.recordTraversalHop("movies", 1000);
+
+		assertThat(registry.get("hateoas.links").tag("controller", "java.lang.String").timer().count()).isEqualTo(2);
+		assertThat(registry.get("hateoas.serialization").tag("media.type", "application/hal+json").timer().count())
+				.isEqualTo(1);
+		assertThat(registry.get("hateoas.serialization").tag("media.type", "none").timer().count()).isEqualTo(1);
+		assertThat(registry.get("hateoas.traverson.hops").tag("rel", "movies").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void limitsNumberOfDistinctTagValues() {
+
+		MicrometerHypermediaMetrics metrics = new MicrometerHypermediaMetrics(registry, 2);
+
+		metrics.recordTraversalHop("first", 1000);
+		metrics.recordTraversalHop("second", 1000);
+		metrics.recordTraversalHop("third", 1000);
+		metrics.recordTraversalHop("fourth", 1000);
+		metrics.recordTraversalHop("first", 1000);
+
+		assertThat(registry.get("hateoas.traverson.hops").tag("rel", "first").timer().count()).isEqualTo(2);
+		assertThat(registry.get("hateoas.traverson.hops").tag("rel", MicrometerHypermediaMetrics.OTHER).timer().count())
+				.isEqualTo(2);
+		assertThat(registry.find("hateoas.traverson.hops").tag("rel", "third").timer()).isNull();
+	}
+
+	@Test
+	public void exposesCacheCounters() {
+
+		new MicrometerHypermediaMetrics(registry);
+
+		assertThat(registry.get("hateoas.cache.requests").tag("cache", "mappings").tag("result", "hit").functionCounter())
+				.isNotNull();
+		assertThat(registry.get("hateoas.cache.requests").tag("cache", "uri-templates").tag("result", "miss")
+				.functionCounter()).isNotNull();
+	}
+
+	@Test
+	public void installsMetricsIfMeterRegistryIsPresent() {
+
+		withContext(Config.class, context -> {
+			assertThat(HypermediaMetricsHolder.getMetrics()).isInstanceOf(MicrometerHypermediaMetrics.class);
+		});
+
+		assertThat(HypermediaMetricsHolder.getMetrics()).isSameAs(HypermediaMetrics.NONE);
+	}
+
+	@Configuration
+	static class Config {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		HypermediaMetricsInstaller installer() {
+			return new HypermediaMetricsInstaller();
+		}
+	}
+}
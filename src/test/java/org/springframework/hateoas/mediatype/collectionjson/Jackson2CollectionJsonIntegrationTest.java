@@ -21,6 +21,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -39,6 +40,8 @@ import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.mediatype.hal.SimplePojo;
 import org.springframework.hateoas.support.MappingUtils;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
@@ -247,6 +250,17 @@ public class Jackson2CollectionJsonIntegrationTest extends AbstractJackson2Marsh
 		assertThat(result).isEqualTo(setupAnnotatedPagedResources());
 	}
 
+	@Test
+	public void deserializesContentThroughJacksonCreator() throws Exception {
+
+		EntityModel<ImmutablePojo> expected = new EntityModel<>(new ImmutablePojo("text", 1), new Link("localhost"));
+
+		EntityModel<ImmutablePojo> result = mapper.readValue(write(expected),
+				mapper.getTypeFactory().constructParametricType(EntityModel.class, ImmutablePojo.class));
+
+		assertThat(result).isEqualTo(expected);
+	}
+
 	private static CollectionModel<EntityModel<SimplePojo>> setupAnnotatedPagedResources() {
 
 		List<EntityModel<SimplePojo>> content = new ArrayList<>();
@@ -265,4 +279,17 @@ public class Jackson2CollectionJsonIntegrationTest extends AbstractJackson2Marsh
 		private String attribute;
 	}
 
+	@Value
+	static class ImmutablePojo {
+
+		private String text;
+		private int number;
+
+		@JsonCreator
+		ImmutablePojo(@JsonProperty("text") String text, @JsonProperty("number") int number) {
+
+			this.text = text;
+			this.number = number;
+		}
+	}
 }
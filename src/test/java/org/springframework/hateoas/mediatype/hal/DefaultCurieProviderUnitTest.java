@@ -187,6 +187,138 @@ public class DefaultCurieProviderUnitTest {
 				it -> assertThat(it.getHref()).startsWith("http://localhost"));
 	}
 
+	@Test
+	public void reusesCurieInformationAndNamespacedRelations() {
+
+		Links links = Links.of(new Link("http://localhost", "book"));
+
+		assertThat(provider.getCurieInformation(links)).isSameAs(provider.getCurieInformation(links));
+		assertThat(provider.getNamespacedRelFor(LinkRelation.of("book"))) //
+				.isSameAs(provider.getNamespacedRelFor(LinkRelation.of("book")));
+	}
+
+	@Test
+	public void createsCurieInformationPerApplicationUri() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("/docs/{rel}"));
+		Links links = Links.of(new Link("http://localhost", "name:foo"));
+
+		try {
+
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setServerName("foo");
+			RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+			assertThat(provider.getCurieInformation(links)).hasOnlyElementsOfType(Curie.class) //
+					.allSatisfy(it -> assertThat(((Curie) it).getHref()).isEqualTo("http://foo/docs/{rel}"));
+
+			request = new MockHttpServletRequest();
+			request.setServerName("bar");
+			RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+			assertThat(provider.getCurieInformation(links)).hasOnlyElementsOfType(Curie.class) //
+					.allSatisfy(it -> assertThat(((Curie) it).getHref()).isEqualTo("http://bar/docs/{rel}"));
+
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	@Test
+	public void createsCurieInformationForApplicationUrisExceedingCacheLimit() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("/docs/{rel}"));
+		Links links = Links.of(new Link("http://localhost", "name:foo"));
+
+		try {
+
+			for (int i = 0; i < 100; i++) {
+
+				MockHttpServletRequest request = new MockHttpServletRequest();
+				request.setServerName("host" + i);
+				RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+				String expected = "http://host" + i + "/docs/{rel}";
+
+				assertThat(provider.getCurieInformation(links)).hasOnlyElementsOfType(Curie.class) //
+						.allSatisfy(it -> assertThat(((Curie) it).getHref()).isEqualTo(expected));
+			}
+
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	@Test
+	public void doesNotCacheCurieInformationIfDisabled() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("acme", URI_TEMPLATE) {
+
+			int counter = 0;
+
+			@Override
+			protected String getCurieHref(String name, UriTemplate template) {
+				return template.toString() + "?" + counter++;
+			}
+
+			@Override
+			protected boolean isCurieInformationCacheable() {
+				return false;
+			}
+		};
+
+		Links links = Links.of(new Link("http://localhost", "book"));
+
+		assertThat(provider.getCurieInformation(links)).isNotEqualTo(provider.getCurieInformation(links));
+	}
+
+	@Test
+	public void doesNotCacheCurieInformationOfSubclassesByDefault() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("acme", URI_TEMPLATE) {
+
+			int counter = 0;
+
+			@Override
+			protected String getCurieHref(String name, UriTemplate template) {
+				return template.toString() + "?" + counter++;
+			}
+		};
+
+		Links links = Links.of(new Link("http://localhost", "book"));
+
+		assertThat(provider.getCurieInformation(links)).isNotEqualTo(provider.getCurieInformation(links));
+	}
+
+	@Test
+	public void cachesCurieInformationOfSubclassesOptingIn() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("acme", URI_TEMPLATE) {
+
+			@Override
+			protected boolean isCurieInformationCacheable() {
+				return true;
+			}
+		};
+
+		Links links = Links.of(new Link("http://localhost", "book"));
+
+		assertThat(provider.getCurieInformation(links)).isSameAs(provider.getCurieInformation(links));
+	}
+
+	@Test
+	public void avoidsDoubleSlashWhenExpandingNonAbsoluteUri() {
+
+		RequestContextHolder.resetRequestAttributes();
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("/docs/{rel}"));
+		Links links = Links.of(new Link("http://localhost", "name:foo"));
+
+		// Application URI is / outside of a request
+		assertThat(provider.getCurieInformation(links)).hasOnlyElementsOfType(Curie.class) //
+				.allSatisfy(it -> assertThat(((Curie) it).getHref()).isEqualTo("/docs/{rel}"));
+	}
+
 	private static Map<String, UriTemplate> getCuries() {
 
 		Map<String, UriTemplate> curies = new HashMap<>(2);
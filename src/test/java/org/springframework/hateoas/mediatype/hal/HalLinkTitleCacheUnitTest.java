@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype.hal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+
+/**
+ * Unit tests for {@link HalLinkTitleCache}.
+ */
+public class HalLinkTitleCacheUnitTest {
+
+	StaticMessageSource messageSource;
+	HalLinkTitleCache cache;
+
+	@Before
+	public void setUp() {
+
+		this.messageSource = new StaticMessageSource();
+		this.messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+		this.messageSource.addMessage("_links.foo.title", Locale.GERMANY, "Fu");
+
+		this.cache = new HalLinkTitleCache(new MessageSourceAccessor(messageSource));
+	}
+
+	@After
+	public void tearDown() {
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Test
+	public void cachesResolvedTitles() {
+
+		LocaleContextHolder.setLocale(Locale.US);
+
+		assertThat(cache.getTitle(HalLinkRelation.uncuried("foo"))).isEqualTo("Foo");
+		assertThat(cache.getTitle(HalLinkRelation.uncuried("foo"))).isEqualTo("Foo");
+
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void cachesAbsenceOfTitles() {
+
+		LocaleContextHolder.setLocale(Locale.US);
+
+		assertThat(cache.getTitle(HalLinkRelation.uncuried("bar"))).isNull();
+		assertThat(cache.getTitle(HalLinkRelation.uncuried("bar"))).isNull();
+
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void cachesTitlesPerLocale() {
+
+		LocaleContextHolder.setLocale(Locale.US);
+		assertThat(cache.getTitle(HalLinkRelation.uncuried("foo"))).isEqualTo("Foo");
+
+		LocaleContextHolder.setLocale(Locale.GERMANY);
+		assertThat(cache.getTitle(HalLinkRelation.uncuried("foo"))).isEqualTo("Fu");
+
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void returnsNullWithoutMessageSourceAccessor() {
+		assertThat(new HalLinkTitleCache(null).getTitle(HalLinkRelation.uncuried("foo"))).isNull();
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype.hal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.JacksonBinaryFormats;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Integration tests for HAL rendered through the binary Jackson data formats.
+ */
+public class Jackson2HalBinaryIntegrationTest {
+
+	@Test
+	public void onlyExposesEnabledBinaryFormats() {
+
+		assertThat(JacksonBinaryFormats.forMediaTypes(Arrays.asList(MediaTypes.HAL_JSON, MediaTypes.HAL_SMILE),
+				MediaTypes.HAL_CBOR, MediaTypes.HAL_SMILE)).containsOnlyKeys(MediaTypes.HAL_SMILE);
+	}
+
+	@Test
+	public void roundTripsHalDocumentThroughCbor() throws Exception {
+		assertRoundTripsHalDocument(new CBORFactory());
+	}
+
+	@Test
+	public void roundTripsHalDocumentThroughSmile() throws Exception {
+		assertRoundTripsHalDocument(new SmileFactory());
+	}
+
+	private static void assertRoundTripsHalDocument(JsonFactory factory) throws Exception {
+
+		ObjectMapper mapper = createHalMapper(new ObjectMapper(factory));
+		CollectionModel<EntityModel<SimplePojo>> model = createCollectionModel();
+
+		byte[] binary = mapper.writeValueAsBytes(model);
+		byte[] json = createHalMapper(new ObjectMapper()).writeValueAsBytes(model);
+
+		assertThat(binary.length).isLessThan(json.length);
+
+		JsonNode document = mapper.readTree(binary);
+
+		assertThat(document.at("/_links/self/href").asText()).isEqualTo("/pojos");
+		assertThat(document.at("/_embedded/content/0/_links/self/href").asText()).isEqualTo("/pojos/0");
+
+		JavaType type = mapper.getTypeFactory().constructParametricType(CollectionModel.class,
+				mapper.getTypeFactory().constructParametricType(EntityModel.class, SimplePojo.class));
+
+		CollectionModel<EntityModel<SimplePojo>> result = mapper.readValue(binary, type);
+
+		assertThat(result).isEqualTo(model);
+	}
+
+	private static ObjectMapper createHalMapper(ObjectMapper mapper) {
+
+		mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(
+				new HalHandlerInstantiator(new AnnotationLinkRelationProvider(), null, null, new HalConfiguration()));
+
+		return mapper;
+	}
+
+	private static CollectionModel<EntityModel<SimplePojo>> createCollectionModel() {
+
+		List<EntityModel<SimplePojo>> content = new ArrayList<>();
+
+		for (int i = 0; i < 10; i++) {
+			content.add(new EntityModel<>(new SimplePojo("text" + i, i), new Link("/pojos/" + i)));
+		}
+
+		return new CollectionModel<>(content, new Link("/pojos"));
+	}
+}
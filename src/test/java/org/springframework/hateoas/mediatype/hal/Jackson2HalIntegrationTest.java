@@ -42,11 +42,22 @@ import org.springframework.hateoas.PagedModel.PageMetadata;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.mediatype.hal.HalConfiguration.RenderSingleLinks;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.EmbeddedMapper;
 import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalResourcesSerializer;
 import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
 import org.springframework.hateoas.server.core.EmbeddedWrappers;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyMetadata;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
  * Integration tests for Jackson 2 HAL integration.
@@ -498,6 +509,62 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 				.isEqualTo("{\"_links\":{\"foo\":[{\"href\":\"/some-href\"}]}}");
 	}
 
+	@Test
+	public void rendersCuriesForCuriedEmbedsWithoutModifyingTheModel() throws Exception {
+
+		CollectionModel<SimplePojo> model = new CollectionModel<>(Collections.singletonList(new SimplePojo("text", 1)),
+				new Link("foo"));
+		ObjectMapper mapper = getCuriedObjectMapper();
+
+		String result = mapper.writeValueAsString(model);
+
+		assertThat(result).contains("\"curies\"");
+		assertThat(mapper.writeValueAsString(model)).isEqualTo(result);
+		assertThat(model.getLinks()).containsExactly(new Link("foo"));
+	}
+
+	@Test
+	public void rendersCuriesForCuriedEmbedsOfRepresentationModelRenderedBeforeLinks() throws Exception {
+
+		ModelWithEmbeds model = new ModelWithEmbeds(Collections.singletonList(new SimplePojo("text", 1)));
+		model.add(new Link("foo"));
+
+		ObjectMapper mapper = getCuriedObjectMapper();
+		String result = mapper.writeValueAsString(model);
+		JsonNode document = mapper.readTree(result);
+
+		assertThat(result).startsWith("{\"_embedded\"");
+		assertThat(document.get("_embedded").fieldNames().next()).startsWith("foo:");
+		assertThat(document.at("/_links/curies/0/name").asText()).isEqualTo("foo");
+	}
+
+	@Test
+	public void rendersCuriedEmbedsOfSameRepresentationModelTwiceIdentically() throws Exception {
+
+		ModelWithEmbeds model = new ModelWithEmbeds(Collections.singletonList(new SimplePojo("text", 1)));
+		model.add(new Link("foo"));
+
+		ObjectMapper mapper = getCuriedObjectMapper();
+		String result = mapper.writeValueAsString(model);
+
+		assertThat(result).contains("\"curies\"");
+		assertThat(mapper.writeValueAsString(model)).isEqualTo(result);
+		assertThat(model.getLinks()).containsExactly(new Link("foo"));
+	}
+
+	@Test
+	public void reusesContextualSerializersPerProperty() throws Exception {
+
+		HalResourcesSerializer serializer = new HalResourcesSerializer(
+				new EmbeddedMapper(new AnnotationLinkRelationProvider(), null, true));
+		BeanProperty property = new BeanProperty.Std(PropertyName.construct("content"),
+				mapper.constructType(Collection.class), null, null, PropertyMetadata.STD_OPTIONAL);
+
+		assertThat(serializer.createContextual(null, property)) //
+				.isNotSameAs(serializer) //
+				.isSameAs(serializer.createContextual(null, property));
+	}
+
 	private static void verifyResolvedTitle(String resourceBundleKey) throws Exception {
 
 		LocaleContextHolder.setLocale(Locale.US);
@@ -555,4 +622,21 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 
 		return mapper;
 	}
+
+	@JsonPropertyOrder({ "embeddeds", "links" })
+	static class ModelWithEmbeds extends RepresentationModel<ModelWithEmbeds> {
+
+		private final List<Object> embeddeds;
+
+		ModelWithEmbeds(List<Object> embeddeds) {
+			this.embeddeds = embeddeds;
+		}
+
+		@JsonProperty("_embedded")
+		@JsonInclude(Include.NON_EMPTY)
+		@JsonSerialize(using = HalResourcesSerializer.class)
+		public List<Object> getEmbeddeds() {
+			return embeddeds;
+		}
+	}
 }
@@ -24,7 +24,11 @@ import lombok.NoArgsConstructor;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
 import org.junit.Before;
@@ -38,7 +42,9 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.mediatype.PropertyUtils;
 import org.springframework.hateoas.support.MappingUtils;
+import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -546,6 +552,109 @@ public class Jackson2UberIntegrationTest extends AbstractJackson2MarshallingInte
 		assertThat(deserialized).isEqualTo(original);
 	}
 
+	@Test
+	public void streamedDocumentMatchesUberDataTree() throws Exception {
+
+		EntityModel<Employee> employee = new EntityModel<>(new Employee("Frodo", null), //
+				new Link("/employees/1").withSelfRel(), //
+				new Link("/employees/1").withRel("employee"), //
+				new Link("/employees{?name}", "search"));
+
+		List<Object> content = new ArrayList<>();
+		content.add(employee);
+		content.add("first");
+		content.add(new EmployeeResource("Bilbo", "burglar").add(new Link("/employees/2")));
+
+		PagedModel<Object> paged = new PagedModel<>(content, new PagedModel.PageMetadata(3, 0, 4), PAGINATION_LINKS);
+
+		assertThat(write(employee)).isEqualTo(writeTree(extractLinksAndContent(employee)));
+		assertThat(write(new CollectionModel<>(content, PAGINATION_LINKS)))
+				.isEqualTo(writeTree(extractLinksAndContent(new CollectionModel<>(content, PAGINATION_LINKS))));
+		assertThat(write(paged)).isEqualTo(writeTree(extractLinksAndContent(paged)));
+	}
+
+	private String writeTree(List<UberData> data) throws Exception {
+		return write(new UberDocument().withUber(new Uber().withVersion("1.0").withData(data)));
+	}
+
+	// Builds the UberData tree the streamed UberDocumentWriter output is compared against
+
+	private static List<UberData> extractLinksAndContent(RepresentationModel<?> resource) {
+
+		List<UberData> data = UberData.extractLinks(resource);
+
+		extractContent(resource).ifPresent(data::add);
+
+		return data;
+	}
+
+	private static List<UberData> extractLinksAndContent(EntityModel<?> resource) {
+
+		List<UberData> data = UberData.extractLinks(resource);
+
+		extractContent(resource.getContent()).ifPresent(data::add);
+
+		return data;
+	}
+
+	private static List<UberData> extractLinksAndContent(CollectionModel<?> resources) {
+
+		List<UberData> data = UberData.extractLinks(resources);
+
+		data.addAll(resources.getContent().stream().map(Jackson2UberIntegrationTest::doExtractLinksAndContent)
+				.map(uberData -> new UberData().withData(uberData)).collect(Collectors.toList()));
+
+		return data;
+	}
+
+	private static List<UberData> extractLinksAndContent(PagedModel<?> resources) {
+
+		List<UberData> collectionOfResources = extractLinksAndContent((CollectionModel<?>) resources);
+
+		if (resources.getMetadata() != null) {
+
+			collectionOfResources.add(new UberData().withName("page")
+					.withData(Arrays.asList(new UberData().withName("number").withValue(resources.getMetadata().getNumber()),
+							new UberData().withName("size").withValue(resources.getMetadata().getSize()),
+							new UberData().withName("totalElements").withValue(resources.getMetadata().getTotalElements()),
+							new UberData().withName("totalPages").withValue(resources.getMetadata().getTotalPages()))));
+		}
+
+		return collectionOfResources;
+	}
+
+	private static Optional<UberData> extractContent(Object content) {
+
+		return Optional.of(content) //
+				.filter(it -> !UberData.RESOURCE_TYPES.contains(content.getClass())) //
+				.map(it -> new UberData() //
+						.withName(StringUtils.uncapitalize(it.getClass().getSimpleName())) //
+						.withData(extractProperties(it)));
+	}
+
+	private static List<UberData> doExtractLinksAndContent(Object item) {
+
+		if (item instanceof EntityModel) {
+			return extractLinksAndContent((EntityModel<?>) item);
+		}
+
+		if (item instanceof RepresentationModel) {
+			return extractLinksAndContent((RepresentationModel<?>) item);
+		}
+
+		return extractLinksAndContent(new EntityModel<>(item));
+	}
+
+	private static List<UberData> extractProperties(Object obj) {
+
+		if (UberData.PRIMITIVE_TYPES.contains(obj.getClass())) {
+			return Collections.singletonList(new UberData().withValue(obj));
+		}
+
+		return PropertyUtils.findProperties(obj).entrySet().stream()
+				.map(entry -> new UberData().withName(entry.getKey()).withValue(entry.getValue())).collect(Collectors.toList());
+	}
+
 	private static CollectionModel<EntityModel<Employee>> setupAnnotatedPagedResources() {
 
 		return setupAnnotatedPagedResources(2, 4);
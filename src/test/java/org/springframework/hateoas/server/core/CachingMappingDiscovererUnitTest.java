@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.hateoas.server.core.CachingMappingDiscoverer.MappingInfo;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ * Unit tests for {@link CachingMappingDiscoverer}.
+ */
+public class CachingMappingDiscovererUnitTest {
+
+	@Test
+	public void resolvesMappingInformationOnlyOnce() throws Exception {
+
+		Method method = SampleController.class.getMethod("method");
+
+		MappingDiscoverer delegate = spy(new AnnotationMappingDiscoverer(RequestMapping.class));
+		CachingMappingDiscoverer discoverer = CachingMappingDiscoverer.of(delegate);
+
+		MappingInfo info = discoverer.getMappingInfo(SampleController.class, method);
+
+		assertThat(info.getMapping()).isEqualTo("/sample/{id}");
+		assertThat(info.getTemplate().getVariableNames()).containsExactly("id");
+		assertThat(info.getRequestMethods()).containsExactly(HttpMethod.PUT);
+
+		assertThat(discoverer.getMappingInfo(SampleController.class, method)).isSameAs(info);
+		assertThat(discoverer.getMapping(SampleController.class, method)).isEqualTo("/sample/{id}");
+		assertThat(discoverer.getRequestMethod(SampleController.class, method)).containsExactly(HttpMethod.PUT);
+
+		verify(delegate, times(1)).getMapping(SampleController.class, method);
+		verify(delegate, times(1)).getRequestMethod(SampleController.class, method);
+	}
+
+	@Test
+	public void cachesAbsenceOfTypeMapping() {
+
+		MappingDiscoverer delegate = mock(MappingDiscoverer.class);
+		CachingMappingDiscoverer discoverer = CachingMappingDiscoverer.of(delegate);
+
+		assertThat(discoverer.getMapping(UnmappedController.class)).isNull();
+		assertThat(discoverer.getMapping(UnmappedController.class)).isNull();
+
+		verify(delegate, times(1)).getMapping(UnmappedController.class);
+	}
+
+	@Test
+	public void usesRootTemplateForUnmappedMethods() throws Exception {
+
+		MappingDiscoverer delegate = mock(MappingDiscoverer.class);
+		doReturn(Collections.emptyList()).when(delegate).getRequestMethod(any(), any());
+
+		Method method = UnmappedController.class.getMethod("method");
+		MappingInfo info = CachingMappingDiscoverer.of(delegate).getMappingInfo(UnmappedController.class, method);
+
+		assertThat(info.getMapping()).isNull();
+		assertThat(info.getTemplate().toString()).isEqualTo("/");
+	}
+
+	@RequestMapping("/sample")
+	static class SampleController {
+
+		@RequestMapping(path = "/{id}", method = RequestMethod.PUT)
+		public void method() {}
+	}
+
+	static class UnmappedController {
+
+		public void method() {}
+	}
+}
@@ -25,11 +25,16 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 import lombok.Value;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TestUtils;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.ExposesResourceFor;
@@ -149,6 +154,53 @@ public class ControllerEntityLinksUnitTest extends TestUtils {
 		assertThat(entityLinks.linkToCollectionResource().getHref()).endsWith("/person");
 	}
 
+	@Test
+	public void createsItemResourceLinksInBulk() {
+
+		when(linkBuilderFactory.linkTo(SampleController.class, new Object[0])).thenReturn(linkTo(SampleController.class));
+
+		EntityLinks entityLinks = new ControllerEntityLinks(singleton(SampleController.class), linkBuilderFactory);
+		List<Long> ids = LongStream.range(0, 10000).boxed().collect(Collectors.toList());
+
+		List<Link> links = entityLinks.linksToItemResources(Person.class, ids);
+
+		assertThat(links).hasSize(10000);
+
+		for (int i = 0; i < ids.size(); i++) {
+			assertThat(links.get(i)).isEqualTo(entityLinks.linkToItemResource(Person.class, ids.get(i)));
+		}
+	}
+
+	@Test
+	public void createsBulkItemResourceLinksForIdsNotBeingSinglePathSegments() {
+
+		when(linkBuilderFactory.linkTo(SampleController.class, new Object[0])).thenReturn(linkTo(SampleController.class));
+
+		EntityLinks entityLinks = new ControllerEntityLinks(singleton(SampleController.class), linkBuilderFactory);
+		List<Object> ids = Arrays.asList("foo bar", "foo/bar", "foo#", Optional.of(42L), Optional.empty(), " ");
+
+		List<Link> links = entityLinks.linksToItemResources(Person.class, ids);
+
+		assertThat(links).hasSize(ids.size());
+
+		for (int i = 0; i < ids.size(); i++) {
+			assertThat(links.get(i)).isEqualTo(entityLinks.linkToItemResource(Person.class, ids.get(i)));
+		}
+	}
+
+	@Test
+	public void createsItemResourceLinksInBulkForTypedEntityLinks() {
+
+		when(linkBuilderFactory.linkTo(SampleController.class, new Object[0])).thenReturn(linkTo(SampleController.class));
+
+		ExtendedTypedEntityLinks<Person> entityLinks = new ControllerEntityLinks(singleton(SampleController.class),
+				linkBuilderFactory).forType(Person.class, Person::getId);
+
+		assertThat(entityLinks.linksToItemResources(Arrays.asList(new Person(1L), new Person(2L)))) //
+				.extracting(Link::getHref) //
+				.allSatisfy(it -> assertThat(it).matches(".*/person/[12]$"));
+	}
+
 	@Controller
 	@ExposesResourceFor(Person.class)
 	@RequestMapping("/person")
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.hateoas.support.ContextTester.*;
+
+import org.junit.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.server.ExposesResourceFor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link ControllerMappingsPreResolver}.
+ */
+public class ControllerMappingsPreResolverUnitTest {
+
+	@Test
+	public void preResolvesRequestMappedMethodsOfControllers() {
+
+		withContext(Config.class, context -> {
+
+			ControllerMappingsPreResolver resolver = context.getBean(ControllerMappingsPreResolver.class);
+
+			assertThat(resolver.getResolvedMethods()).isEqualTo(3);
+			assertThat(resolver.getDuration()).isNotNegative();
+		});
+	}
+
+	@Configuration
+	static class Config {
+
+		@Bean
+		ControllerMappingsPreResolver resolver() {
+			return new ControllerMappingsPreResolver();
+		}
+
+		@Bean
+		SampleController sampleController() {
+			return new SampleController();
+		}
+
+		@Bean
+		SampleEntityController sampleEntityController() {
+			return new SampleEntityController();
+		}
+	}
+
+	@Controller
+	@RequestMapping("/people")
+	static class SampleController {
+
+		@GetMapping("/{id}")
+		void person(@PathVariable String id) {}
+
+		@PostMapping
+		void create() {}
+
+		void notMapped() {}
+	}
+
+	@ExposesResourceFor(Object.class)
+	@RequestMapping("/entities")
+	static class SampleEntityController {
+
+		@GetMapping
+		void entities() {}
+	}
+}
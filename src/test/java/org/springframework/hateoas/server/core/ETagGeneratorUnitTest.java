@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Unit tests for {@link ETagGenerator}.
+ */
+public class ETagGeneratorUnitTest {
+
+	ETagGenerator generator = new ETagGenerator();
+
+	@Test
+	public void computesStrongETagForRepresentation() {
+
+		String eTag = generator.forRepresentation("{}".getBytes());
+
+		assertThat(eTag).startsWith("\"").endsWith("\"").hasSize(34);
+		assertThat(generator.forRepresentation("{}".getBytes())).isEqualTo(eTag);
+		assertThat(generator.forRepresentation("[]".getBytes())).isNotEqualTo(eTag);
+	}
+
+	@Test
+	public void computesStableETagForVersion() {
+		assertThat(generator.forVersion(42L)).isEqualTo(generator.forVersion("42"));
+	}
+
+	@Test
+	public void matchesIfNoneMatchValues() {
+
+		String eTag = generator.forVersion(1);
+
+		assertThat(generator.isNotModified(eTag, Collections.singletonList(eTag))).isTrue();
+		assertThat(generator.isNotModified(eTag, Collections.singletonList("W/" + eTag))).isTrue();
+		assertThat(generator.isNotModified(eTag, Collections.singletonList("*"))).isTrue();
+		assertThat(generator.isNotModified(eTag, Arrays.asList("\"foo\"", "\"bar\""))).isFalse();
+		assertThat(generator.isNotModified(eTag, Collections.emptyList())).isFalse();
+	}
+
+	@Test
+	public void onlyAppliesToSafeRetrievalMethods() {
+
+		assertThat(generator.appliesTo(HttpMethod.GET)).isTrue();
+		assertThat(generator.appliesTo(HttpMethod.HEAD)).isTrue();
+		assertThat(generator.appliesTo(HttpMethod.POST)).isFalse();
+		assertThat(generator.appliesTo(null)).isFalse();
+	}
+
+	@Test
+	public void answersConditionalRequestForVersion() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, generator.forVersion(42));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertThat(generator.checkNotModified(new ServletWebRequest(request, response), 42)).isTrue();
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(generator.forVersion(42));
+
+		response = new MockHttpServletResponse();
+
+		assertThat(generator.checkNotModified(new ServletWebRequest(request, response), 43)).isFalse();
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+
+	@Test
+	public void answersConditionalExchangeForVersion() {
+
+		MockServerWebExchange exchange = MockServerWebExchange
+				.from(MockServerHttpRequest.get("/").ifNoneMatch(generator.forVersion(42)));
+
+		assertThat(generator.checkNotModified(exchange, 42)).isTrue();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+		exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/").ifNoneMatch(generator.forVersion(42)));
+
+		assertThat(generator.checkNotModified(exchange, 43)).isFalse();
+	}
+
+	@Test
+	public void rejectsUnknownAlgorithm() {
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new ETagGenerator("FOO"));
+	}
+}
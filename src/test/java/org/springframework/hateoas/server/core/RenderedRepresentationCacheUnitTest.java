@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * Unit tests for {@link RenderedRepresentationCache}.
+ */
+public class RenderedRepresentationCacheUnitTest {
+
+	static final byte[] REPRESENTATION = "{}".getBytes();
+
+	RenderedRepresentationCache cache = new RenderedRepresentationCache(2);
+
+	@Test
+	public void onlyStoresRepresentationsOfCacheableModels() {
+
+		RepresentationModel<?> model = new RepresentationModel<>().add(new Link("/foo"));
+
+		cache.put(model, MediaTypes.HAL_JSON, "http://localhost", REPRESENTATION);
+
+		assertThat(cache.get(model, MediaTypes.HAL_JSON, "http://localhost")).isNull();
+
+		cache.put(cache.cacheable(model), MediaTypes.HAL_JSON, "http://localhost", REPRESENTATION);
+
+		assertThat(cache.get(model, MediaTypes.HAL_JSON, "http://localhost")).isSameAs(REPRESENTATION);
+		assertThat(cache.get(model, MediaTypes.UBER_JSON, "http://localhost")).isNull();
+		assertThat(cache.get(model, MediaTypes.HAL_JSON, "https://example.com")).isNull();
+
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void dropsLeastRecentlyUsedRepresentations() {
+
+		RepresentationModel<?> model = cache.cacheable(new RepresentationModel<>().add(new Link("/foo")));
+
+		cache.put(model, MediaTypes.HAL_JSON, "http://first", REPRESENTATION);
+		cache.put(model, MediaTypes.HAL_JSON, "http://second", REPRESENTATION);
+		cache.get(model, MediaTypes.HAL_JSON, "http://first");
+		cache.put(model, MediaTypes.HAL_JSON, "http://third", REPRESENTATION);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(model, MediaTypes.HAL_JSON, "http://first")).isNotNull();
+		assertThat(cache.get(model, MediaTypes.HAL_JSON, "http://second")).isNull();
+	}
+
+	@Test
+	public void evictsRepresentationsOfModel() {
+
+		RepresentationModel<?> model = cache.cacheable(new RepresentationModel<>().add(new Link("/foo")));
+		cache.put(model, MediaTypes.HAL_JSON, "http://localhost", REPRESENTATION);
+
+		cache.evict(model);
+
+		assertThat(cache.isCacheable(model)).isFalse();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void tracksRegistrationsByIdentity() {
+
+		RepresentationModel<?> model = cache.cacheable(new RepresentationModel<>().add(new Link("/foo")));
+		RepresentationModel<?> equalModel = new RepresentationModel<>().add(new Link("/foo"));
+
+		cache.put(model, MediaTypes.HAL_JSON, "http://localhost", REPRESENTATION);
+
+		assertThat(equalModel).isEqualTo(model);
+		assertThat(cache.isCacheable(equalModel)).isFalse();
+		assertThat(cache.get(equalModel, MediaTypes.HAL_JSON, "http://localhost")).isNull();
+	}
+
+	@Test
+	public void rejectsInvalidMaximumSize() {
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new RenderedRepresentationCache(0));
+	}
+}
@@ -43,6 +43,7 @@ import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.PagedModel.PageMetadata;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.server.BatchRepresentationModelProcessor;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
 import org.springframework.hateoas.server.core.EmbeddedWrappers;
 import org.springframework.hateoas.server.core.HeaderLinksResponseEntity;
@@ -318,6 +319,85 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		invokeReturnValueHandler("wildcardedResources", FOOS, BARS);
 	}
 
+	@Test
+	public void selectsProcessorsForReplacedValue() throws Exception {
+
+		resourceProcessors.add(StringToLongResourceProcessor.INSTANCE);
+		resourceProcessors.add(LongResourceProcessor.INSTANCE);
+
+		invokeReturnValueHandler("resource", FOO, LONG_20);
+	}
+
+	@Test
+	public void invokesProcessorsForAllElementsOfSameType() {
+
+		CountingStringResourceProcessor processor = new CountingStringResourceProcessor();
+		resourceProcessors.add(processor);
+		resourceProcessors.add(LongResourceProcessor.INSTANCE);
+
+		RepresentationModelProcessorInvoker invoker = new RepresentationModelProcessorInvoker(resourceProcessors);
+
+		List<Object> elements = new ArrayList<>();
+		elements.add(new EntityModel<>("first"));
+		elements.add(new EntityModel<>(1L));
+		elements.add(new EntityModel<>("second"));
+		elements.add(new EntityModel<>("third"));
+
+		CollectionModel<Object> result = invoker.invokeProcessorsFor(new CollectionModel<>(elements));
+
+		assertThat(processor.invocations).isEqualTo(3);
+		assertThat(result.getContent()).contains(LONG_20);
+	}
+
+	@Test
+	public void invokesBatchProcessorOnceForAllMatchingElements() {
+
+		BatchStringResourceProcessor processor = new BatchStringResourceProcessor();
+		resourceProcessors.add(processor);
+		resourceProcessors.add(LongResourceProcessor.INSTANCE);
+
+		RepresentationModelProcessorInvoker invoker = new RepresentationModelProcessorInvoker(resourceProcessors);
+
+		List<Object> elements = new ArrayList<>();
+		elements.add(FOO);
+		elements.add(LONG_10);
+		elements.add(new EntityModel<>("second"));
+
+		CollectionModel<Object> result = invoker.invokeProcessorsFor(new CollectionModel<>(elements));
+
+		assertThat(processor.batches).containsExactly(2);
+		assertThat(result.getContent()).containsExactly(BAR, LONG_20, BAR);
+	}
+
+	@Test
+	public void selectsRemainingBatchProcessorsForReplacedElements() {
+
+		BatchStringResourceProcessor processor = new BatchStringResourceProcessor();
+		resourceProcessors.add(StringToLongResourceProcessor.INSTANCE);
+		resourceProcessors.add(processor);
+		resourceProcessors.add(LongResourceProcessor.INSTANCE);
+
+		RepresentationModelProcessorInvoker invoker = new RepresentationModelProcessorInvoker(resourceProcessors);
+
+		List<Object> elements = new ArrayList<>();
+		elements.add(FOO);
+		elements.add(LONG_10);
+		elements.add(new EntityModel<>("second"));
+
+		CollectionModel<Object> result = invoker.invokeProcessorsFor(new CollectionModel<>(elements));
+
+		assertThat(processor.batches).isEmpty();
+		assertThat(result.getContent()).containsExactly(LONG_20, LONG_20, LONG_20);
+	}
+
+	@Test
+	public void invokesBatchProcessorForSingleResource() throws Exception {
+
+		resourceProcessors.add(new BatchStringResourceProcessor());
+
+		invokeReturnValueHandler("resource", FOO, BAR);
+	}
+
 	private void invokeReturnValueHandler(String method, Object returnValue, Object expected) throws Exception {
 
 		MethodParameter methodParam = METHOD_PARAMS.get(method);
@@ -362,6 +442,44 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		}
 	}
 
+	enum StringToLongResourceProcessor implements RepresentationModelProcessor<EntityModel<String>> {
+		INSTANCE;
+
+		@Override
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		public EntityModel<String> process(EntityModel<String> resource) {
+			return (EntityModel) LONG_10;
+		}
+	}
+
+	static class CountingStringResourceProcessor implements RepresentationModelProcessor<EntityModel<String>> {
+
+		int invocations = 0;
+
+		@Override
+		public EntityModel<String> process(EntityModel<String> resource) {
+
+			this.invocations++;
+			return resource;
+		}
+	}
+
+	static class BatchStringResourceProcessor implements BatchRepresentationModelProcessor<EntityModel<String>> {
+
+		List<Integer> batches = new ArrayList<>();
+
+		@Override
+		public List<EntityModel<String>> processAll(List<EntityModel<String>> resources) {
+
+			this.batches.add(resources.size());
+
+			List<EntityModel<String>> result = new ArrayList<>();
+			resources.forEach(it -> result.add(BAR));
+
+			return result;
+		}
+	}
+
 	enum StringResourcesProcessor implements RepresentationModelProcessor<CollectionModel<EntityModel<String>>> {
 		INSTANCE;
 
@@ -16,13 +16,25 @@
 package org.springframework.hateoas.server.mvc;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.*;
 
 import org.junit.Test;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.ETagGenerator;
+import org.springframework.hateoas.server.core.RenderedRepresentationCache;
 import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Unit tests for {@link TypeConstrainedMappingJackson2HttpMessageConverter}.
@@ -67,6 +79,131 @@ public class TypeConstrainedMappingJackson2HttpMessageConverterUnitTest {
 		assertCanWrite(converter, EntityModel.class, true);
 	}
 
+	@Test
+	public void writesCachedRepresentationOfCacheableModel() throws Exception {
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		try {
+
+			RenderedRepresentationCache cache = new RenderedRepresentationCache(10);
+			RepresentationModel<?> model = cache.cacheable(new RepresentationModel<>().add(new Link("/foo")));
+
+			TypeConstrainedMappingJackson2HttpMessageConverter converter = new TypeConstrainedMappingJackson2HttpMessageConverter(
+					RepresentationModel.class);
+			converter.setRenderedRepresentationCache(cache);
+
+			MockHttpOutputMessage first = new MockHttpOutputMessage();
+			converter.write(model, APPLICATION_JSON, first);
+
+			MockHttpOutputMessage second = new MockHttpOutputMessage();
+			converter.write(model, APPLICATION_JSON, second);
+
+			assertThat(second.getBodyAsString()).isEqualTo(first.getBodyAsString()).contains("/foo");
+			assertThat(cache.getMissCount()).isEqualTo(1);
+			assertThat(cache.getHitCount()).isEqualTo(1);
+
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	@Test
+	public void answersConditionalRequestWithNotModified() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		try {
+
+			TypeConstrainedMappingJackson2HttpMessageConverter converter = new TypeConstrainedMappingJackson2HttpMessageConverter(
+					RepresentationModel.class);
+			converter.setETagGenerator(new ETagGenerator());
+
+			RepresentationModel<?> model = new RepresentationModel<>().add(new Link("/foo"));
+
+			MockHttpServletResponse first = new MockHttpServletResponse();
+			converter.write(model, APPLICATION_JSON, new ServletServerHttpResponse(first));
+
+			String eTag = first.getHeader(HttpHeaders.ETAG);
+
+			assertThat(eTag).isNotNull();
+			assertThat(first.getContentAsString()).contains("/foo");
+
+			request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+			MockHttpServletResponse second = new MockHttpServletResponse();
+			converter.write(model, APPLICATION_JSON, new ServletServerHttpResponse(second));
+
+			assertThat(second.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+			assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+			assertThat(second.getContentAsByteArray()).isEmpty();
+
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	@Test
+	public void doesNotComputeETagForNonOkResponses() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		try {
+
+			TypeConstrainedMappingJackson2HttpMessageConverter converter = new TypeConstrainedMappingJackson2HttpMessageConverter(
+					RepresentationModel.class);
+			converter.setETagGenerator(new ETagGenerator());
+
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			response.setStatus(HttpStatus.NOT_FOUND.value());
+
+			converter.write(new RepresentationModel<>().add(new Link("/foo")), APPLICATION_JSON,
+					new ServletServerHttpResponse(response));
+
+			assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+			assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+			assertThat(response.getContentAsString()).contains("/foo");
+
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	@Test
+	public void reusesETagOfCachedRepresentation() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		try {
+
+			RenderedRepresentationCache cache = new RenderedRepresentationCache(10);
+			ETagGenerator generator = spy(new ETagGenerator());
+
+			TypeConstrainedMappingJackson2HttpMessageConverter converter = new TypeConstrainedMappingJackson2HttpMessageConverter(
+					RepresentationModel.class);
+			converter.setRenderedRepresentationCache(cache);
+			converter.setETagGenerator(generator);
+
+			RepresentationModel<?> model = cache.cacheable(new RepresentationModel<>().add(new Link("/foo")));
+
+			MockHttpServletResponse first = new MockHttpServletResponse();
+			converter.write(model, APPLICATION_JSON, new ServletServerHttpResponse(first));
+
+			MockHttpServletResponse second = new MockHttpServletResponse();
+			converter.write(model, APPLICATION_JSON, new ServletServerHttpResponse(second));
+
+			assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(first.getHeader(HttpHeaders.ETAG));
+			verify(generator, times(1)).forRepresentation(any(byte[].class));
+
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
 	private static void assertCanRead(GenericHttpMessageConverter<Object> converter, Class<?> type, boolean expected) {
 
 		assertThat(converter.canRead(type, APPLICATION_JSON)).isEqualTo(expected);
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.RenderedRepresentationCache;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link CachingJackson2JsonEncoder}.
+ */
+public class CachingJackson2JsonEncoderUnitTest {
+
+	static final ResolvableType TYPE = ResolvableType.forClass(RepresentationModel.class);
+
+	RenderedRepresentationCache cache = new RenderedRepresentationCache(10);
+	CachingJackson2JsonEncoder encoder = new CachingJackson2JsonEncoder(new ObjectMapper(), cache,
+			MediaType.APPLICATION_JSON);
+
+	@Test
+	public void rendersCacheableModelOnlyOnce() {
+
+		RepresentationModel<?> model = cache.cacheable(new RepresentationModel<>().add(new Link("/foo")));
+
+		String first = encode(model, "http://localhost/foo");
+		String second = encode(model, "http://localhost/foo");
+
+		assertThat(first).contains("/foo");
+		assertThat(second).isEqualTo(first);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void cachesRepresentationsPerBaseUri() {
+
+		RepresentationModel<?> model = cache.cacheable(new RepresentationModel<>().add(new Link("/foo")));
+
+		encode(model, "http://localhost/foo");
+		encode(model, "http://example.com/foo");
+
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void doesNotLookUpModelsNotRegisteredAsCacheable() {
+
+		String result = encode(new RepresentationModel<>().add(new Link("/foo")), "http://localhost/foo");
+
+		assertThat(result).contains("/foo");
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getMissCount()).isZero();
+		assertThat(cache.getHitCount()).isZero();
+	}
+
+	private String encode(RepresentationModel<?> model, String uri) {
+
+		MockServerHttpRequest request = MockServerHttpRequest.get(uri).build();
+		Map<String, Object> hints = encoder.getEncodeHints(TYPE, TYPE, MediaType.APPLICATION_JSON, request,
+				new MockServerHttpResponse());
+
+		return DataBufferUtils.join(encoder.encode(Mono.just(model), new DefaultDataBufferFactory(), TYPE,
+				MediaType.APPLICATION_JSON, hints)) //
+				.map(buffer -> {
+
+					String result = StandardCharsets.UTF_8.decode(buffer.asByteBuffer()).toString();
+					DataBufferUtils.release(buffer);
+
+					return result;
+				}) //
+				.block();
+	}
+}
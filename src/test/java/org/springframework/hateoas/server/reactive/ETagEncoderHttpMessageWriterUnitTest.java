@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.ETagGenerator;
+import org.springframework.hateoas.server.core.RenderedRepresentationCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link ETagEncoderHttpMessageWriter}.
+ */
+public class ETagEncoderHttpMessageWriterUnitTest {
+
+	static final ResolvableType TYPE = ResolvableType.forClass(RepresentationModel.class);
+
+	RepresentationModel<?> model = new RepresentationModel<>().add(new Link("/foo"));
+
+	@Test
+	public void addsETagToResponseForGetRequest() {
+
+		MockServerHttpResponse response = write(new Jackson2JsonEncoder(), new ETagGenerator(),
+				MockServerHttpRequest.get("/").build(), new MockServerHttpResponse());
+
+		assertThat(response.getHeaders().getETag()).isNotNull();
+		assertThat(response.getBodyAsString().block()).contains("/foo");
+	}
+
+	@Test
+	public void answersMatchingConditionalRequestWithNotModified() {
+
+		ETagGenerator generator = new ETagGenerator();
+
+		String eTag = write(new Jackson2JsonEncoder(), generator, MockServerHttpRequest.get("/").build(),
+				new MockServerHttpResponse()).getHeaders().getETag();
+
+		MockServerHttpResponse response = write(new Jackson2JsonEncoder(), generator,
+				MockServerHttpRequest.get("/").ifNoneMatch(eTag).build(), new MockServerHttpResponse());
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+		assertThat(response.getBodyAsString().block()).isNullOrEmpty();
+	}
+
+	@Test
+	public void doesNotAddETagToNonOkResponses() {
+
+		MockServerHttpResponse response = new MockServerHttpResponse();
+		response.setStatusCode(HttpStatus.NOT_FOUND);
+
+		write(new Jackson2JsonEncoder(), new ETagGenerator(),
+				MockServerHttpRequest.get("/").header(HttpHeaders.IF_NONE_MATCH, "*").build(), response);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+		assertThat(response.getHeaders().getETag()).isNull();
+		assertThat(response.getBodyAsString().block()).contains("/foo");
+	}
+
+	@Test
+	public void doesNotAddETagToResponsesForOtherMethods() {
+
+		MockServerHttpResponse response = write(new Jackson2JsonEncoder(), new ETagGenerator(),
+				MockServerHttpRequest.post("/").build(), new MockServerHttpResponse());
+
+		assertThat(response.getHeaders().getETag()).isNull();
+	}
+
+	@Test
+	public void usesETagKeptAlongsideCachedRepresentation() {
+
+		RenderedRepresentationCache cache = new RenderedRepresentationCache(10);
+		ETagGenerator generator = spy(new ETagGenerator());
+		CachingJackson2JsonEncoder encoder = new CachingJackson2JsonEncoder(new ObjectMapper(), cache,
+				MediaType.APPLICATION_JSON);
+
+		cache.cacheable(model);
+
+		String first = write(encoder, generator, MockServerHttpRequest.get("/").build(), new MockServerHttpResponse())
+				.getHeaders().getETag();
+		String second = write(encoder, generator, MockServerHttpRequest.get("/").build(), new MockServerHttpResponse())
+				.getHeaders().getETag();
+
+		assertThat(first).isNotNull().isEqualTo(second);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		verify(generator, times(1)).forRepresentation(any(byte[].class));
+	}
+
+	private MockServerHttpResponse write(Encoder<Object> encoder, ETagGenerator generator,
+			MockServerHttpRequest request, MockServerHttpResponse response) {
+
+		new ETagEncoderHttpMessageWriter<>(encoder, generator) //
+				.write(Mono.just(model), TYPE, TYPE, MediaType.APPLICATION_JSON, request, response, Collections.emptyMap()) //
+				.block();
+
+		return response;
+	}
+}
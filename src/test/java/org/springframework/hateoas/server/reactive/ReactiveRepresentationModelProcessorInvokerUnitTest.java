@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelProcessor;
+
+/**
+ * Unit tests for {@link ReactiveRepresentationModelProcessorInvoker}.
+ */
+public class ReactiveRepresentationModelProcessorInvokerUnitTest {
+
+	@Test
+	public void invokesSynchronousProcessorsBeforeReactiveOnes() {
+
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Collections.singletonList(new SynchronousProcessor()), Collections.singletonList(new ReactiveProcessor()));
+
+		invoker.invokeProcessorsFor(Mono.just(new EntityModel<>("foo"))).as(StepVerifier::create) //
+				.expectNextMatches(it -> it.getLinks().toList().equals(Arrays.asList( //
+						new Link("/sync", "sync"), new Link("/reactive", "reactive")))) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void onlyInvokesReactiveProcessorForMatchingContent() {
+
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Collections.emptyList(), Collections.singletonList(new ReactiveProcessor()));
+
+		invoker.invokeProcessorsFor(new EntityModel<>(42L)).as(StepVerifier::create) //
+				.expectNextMatches(it -> !it.hasLinks()) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void invokesReactiveProcessorsForCollectionModelElements() {
+
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Collections.emptyList(), Collections.singletonList(new ReactiveProcessor()));
+
+		CollectionModel<EntityModel<String>> model = new CollectionModel<>(
+				Arrays.asList(new EntityModel<>("foo"), new EntityModel<>("bar")));
+
+		invoker.invokeProcessorsFor(model).as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.getContent()) //
+						.allSatisfy(element -> assertThat(element.getLink("reactive")).isPresent())) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void replacesCollectionModelElementsReturnedByReactiveProcessors() {
+
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Collections.emptyList(), Collections.singletonList(new UpperCasingProcessor()));
+
+		invoker.invokeProcessorsFor(new CollectionModel<>(Arrays.asList(new EntityModel<>("foo")))) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.getContent()).extracting(EntityModel::getContent).containsExactly("FOO")) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void onlyInvokesReactiveCollectionProcessorForMatchingElements() {
+
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Collections.emptyList(), Collections.singletonList(new ReactiveCollectionProcessor()));
+
+		invoker.invokeProcessorsFor(new CollectionModel<>(Arrays.asList(new EntityModel<>(42L)))) //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> !it.hasLinks()) //
+				.verifyComplete();
+
+		invoker.invokeProcessorsFor(new CollectionModel<>(Arrays.asList(new EntityModel<>("foo")))) //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> it.hasLink("reactive")) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void processesFluxElementsConcurrentlyPreservingOrder() {
+
+		DelayingProcessor processor = new DelayingProcessor();
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Collections.emptyList(), Collections.singletonList(processor), 2);
+
+		List<String> content = Arrays.asList("3", "2", "1", "0");
+
+		invoker.invokeProcessorsFor(Flux.fromIterable(content).map(EntityModel::new)) //
+				.map(EntityModel::getContent) //
+				.as(StepVerifier::create) //
+				.expectNextSequence(content) //
+				.verifyComplete();
+
+		assertThat(processor.maxConcurrency.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void rejectsInvalidConcurrency() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(
+				() -> new ReactiveRepresentationModelProcessorInvoker(Collections.emptyList(), Collections.emptyList(), 0));
+	}
+
+	static class SynchronousProcessor implements RepresentationModelProcessor<EntityModel<String>> {
+
+		@Override
+		public EntityModel<String> process(EntityModel<String> resource) {
+			return resource.add(new Link("/sync", "sync"));
+		}
+	}
+
+	static class ReactiveProcessor implements ReactiveRepresentationModelProcessor<EntityModel<String>> {
+
+		@Override
+		public Mono<EntityModel<String>> process(EntityModel<String> resource) {
+			return Mono.just(resource.add(new Link("/reactive", "reactive")));
+		}
+	}
+
+	static class UpperCasingProcessor implements ReactiveRepresentationModelProcessor<EntityModel<String>> {
+
+		@Override
+		public Mono<EntityModel<String>> process(EntityModel<String> resource) {
+			return Mono.just(new EntityModel<>(resource.getContent().toUpperCase()));
+		}
+	}
+
+	static class ReactiveCollectionProcessor
+			implements ReactiveRepresentationModelProcessor<CollectionModel<EntityModel<String>>> {
+
+		@Override
+		public Mono<CollectionModel<EntityModel<String>>> process(CollectionModel<EntityModel<String>> resources) {
+			return Mono.just(resources.add(new Link("/reactive", "reactive")));
+		}
+	}
+
+	static class DelayingProcessor implements ReactiveRepresentationModelProcessor<EntityModel<String>> {
+
+		AtomicInteger concurrency = new AtomicInteger();
+		AtomicInteger maxConcurrency = new AtomicInteger();
+
+		@Override
+		public Mono<EntityModel<String>> process(EntityModel<String> resource) {
+
+			return Mono.just(resource) //
+					.doOnSubscribe(__ -> maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max)) //
+					.delayElement(Duration.ofMillis(10 * Long.parseLong(resource.getContent()))) //
+					.doOnNext(__ -> concurrency.decrementAndGet());
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelProcessor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Unit tests for {@link RepresentationModelProcessorHandlerResultHandler}.
+ */
+public class RepresentationModelProcessorHandlerResultHandlerUnitTest {
+
+	static final Link LINK = new Link("/processed", "processed");
+
+	CapturingResultHandler delegate = new CapturingResultHandler();
+	RepresentationModelProcessorHandlerResultHandler handler = new RepresentationModelProcessorHandlerResultHandler(
+			delegate, new ReactiveRepresentationModelProcessorInvoker(
+					Collections.singletonList(new LinkAddingProcessor()), Collections.emptyList()));
+
+	@Test
+	public void processesPlainRepresentationModel() {
+
+		handle(new EntityModel<>("foo"));
+
+		assertThat(delegate.value).isInstanceOfSatisfying(EntityModel.class,
+				it -> assertThat(it.getLinks()).containsExactly(LINK));
+	}
+
+	@Test
+	public void processesBodyOfResponseEntityKeepingStatusAndHeaders() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Foo", "bar");
+
+		handle(new ResponseEntity<>(new EntityModel<>("foo"), headers, HttpStatus.CREATED));
+
+		assertThat(delegate.value).isInstanceOfSatisfying(ResponseEntity.class, it -> {
+
+			assertThat(it.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+			assertThat(it.getHeaders().getFirst("X-Foo")).isEqualTo("bar");
+			assertThat(((EntityModel<?>) it.getBody()).getLinks()).containsExactly(LINK);
+		});
+	}
+
+	@Test
+	public void processesBodyOfHttpEntityEmittedByMono() {
+
+		handle(Mono.just(new HttpEntity<>(new EntityModel<>("foo"))));
+
+		assertThat(delegate.value).isInstanceOfSatisfying(HttpEntity.class,
+				it -> assertThat(((EntityModel<?>) it.getBody()).getLinks()).containsExactly(LINK));
+	}
+
+	@Test
+	public void processesModelsEmittedByFlux() {
+
+		handle(Flux.just(new EntityModel<>("foo")));
+
+		assertThat(delegate.value).isInstanceOfSatisfying(EntityModel.class,
+				it -> assertThat(it.getLinks()).containsExactly(LINK));
+	}
+
+	@Test
+	public void handsOnEntitiesWithOtherBodiesAsIs() {
+
+		ResponseEntity<String> entity = ResponseEntity.ok("foo");
+
+		handle(entity);
+
+		assertThat(delegate.value).isSameAs(entity);
+	}
+
+	private void handle(Object returnValue) {
+
+		MethodParameter returnType = new MethodParameter(ReflectionUtils.findMethod(Controller.class, "handle"), -1);
+
+		handler.handleResult(mock(ServerWebExchange.class), new HandlerResult(new Controller(), returnValue, returnType)) //
+				.block();
+	}
+
+	static class Controller {
+
+		public Object handle() {
+			return null;
+		}
+	}
+
+	static class LinkAddingProcessor implements RepresentationModelProcessor<EntityModel<String>> {
+
+		@Override
+		public EntityModel<String> process(EntityModel<String> resource) {
+			return resource.add(LINK);
+		}
+	}
+
+	static class CapturingResultHandler implements HandlerResultHandler {
+
+		Object value;
+
+		@Override
+		public boolean supports(HandlerResult result) {
+			return true;
+		}
+
+		@Override
+		public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+
+			Object returnValue = result.getReturnValue();
+
+			if (returnValue instanceof Mono) {
+				return ((Mono<?>) returnValue).doOnNext(it -> this.value = it).then();
+			}
+
+			if (returnValue instanceof Flux) {
+				return ((Flux<?>) returnValue).doOnNext(it -> this.value = it).then();
+			}
+
+			this.value = returnValue;
+
+			return Mono.empty();
+		}
+	}
+}
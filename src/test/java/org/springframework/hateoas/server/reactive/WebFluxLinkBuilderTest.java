@@ -26,6 +26,7 @@ import reactor.util.context.Context;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.HashMap;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -238,6 +239,27 @@ public class WebFluxLinkBuilderTest {
 
 	}
 
+	@Test
+	public void resolvesRequestUriOncePerExchange() throws URISyntaxException {
+
+		when(this.exchange.getRequest()).thenReturn(this.request);
+		when(this.exchange.getAttributes()).thenReturn(new HashMap<>());
+		when(this.request.getURI()).thenReturn(new URI("http://localhost:8080/api"));
+		when(this.request.getHeaders()).thenReturn(new HttpHeaders());
+
+		linkTo(methodOn(TestController.class).root(), this.exchange).withSelfRel().toMono() //
+				.as(StepVerifier::create) //
+				.expectNextMatches(link -> link.getHref().equals("http://localhost:8080/api")) //
+				.verifyComplete();
+
+		linkTo(methodOn(TestController.class).deep(), this.exchange).withSelfRel().toMono() //
+				.as(StepVerifier::create) //
+				.expectNextMatches(link -> link.getHref().equals("http://localhost:8080/api/employees")) //
+				.verifyComplete();
+
+		verify(this.request, times(1)).getURI();
+	}
+
 	@RestController
 	@RequestMapping("/api")
 	static class TestController {
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.MediaTypes;
+
+/**
+ * Unit tests for {@link HypermediaEvents}.
+ */
+public class HypermediaEventsUnitTest {
+
+	@Test
+	public void doesNotCreateEventsIfNotRecording() {
+
+		assertThat(HypermediaEvents.beginLinkCreation()).isNull();
+		assertThat(HypermediaEvents.beginSerialization()).isNull();
+		assertThat(HypermediaEvents.beginTraversalHop()).isNull();
+	}
+
+	@Test
+	public void ignoresEventsNotRecorded() {
+
+		HypermediaEvents.commitLinkCreation(null, Object.class, null);
+		HypermediaEvents.commitSerialization(null, MediaTypes.HAL_JSON, Object.class, 0);
+		HypermediaEvents.commitTraversalHop(null, "movies", "/");
+	}
+}